@@ -0,0 +1,80 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files and flag regressions.
+
+Usage: scripts/jmh-compare.py BASELINE.json CURRENT.json [--threshold PERCENT]
+
+Exits with status 1 when any benchmark is slower than the baseline by more
+than the threshold (default 10%) and the difference exceeds the combined
+score errors of both runs.
+"""
+import argparse
+import json
+import sys
+
+HIGHER_IS_BETTER = {"thrpt"}
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    scores = {}
+    for result in results:
+        params = result.get("params") or {}
+        key = result["benchmark"]
+        if params:
+            key += "(" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + ")"
+        metric = result["primaryMetric"]
+        error = metric.get("scoreError")
+        scores[key] = {
+            "mode": result["mode"],
+            "score": metric["score"],
+            "error": error if isinstance(error, (int, float)) else 0.0,
+            "unit": metric["scoreUnit"],
+        }
+    return scores
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Flag JMH regressions between two runs.")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0, help="allowed slowdown in percent")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    regressions = 0
+
+    print(f"{'benchmark':<80} {'baseline':>14} {'current':>14} {'change':>9}")
+    for key in sorted(set(baseline) | set(current)):
+        if key not in baseline or key not in current:
+            state = "removed" if key in baseline else "new"
+            print(f"{key:<80} {state:>39}")
+            continue
+
+        before, after = baseline[key], current[key]
+        if before["unit"] != after["unit"] or before["mode"] != after["mode"]:
+            print(f"{key:<80} {'unit or mode changed':>39}")
+            continue
+
+        change = (after["score"] - before["score"]) / before["score"] * 100 if before["score"] else 0.0
+        slowdown = -change if after["mode"] in HIGHER_IS_BETTER else change
+        significant = abs(after["score"] - before["score"]) > before["error"] + after["error"]
+        flag = ""
+        if slowdown > args.threshold and significant:
+            flag = "  REGRESSION"
+            regressions += 1
+        elif slowdown < -args.threshold and significant:
+            flag = "  improved"
+
+        print(f"{key:<80} {before['score']:>10.3f} {before['unit']:<3} {after['score']:>10.3f} {after['unit']:<3}"
+              f" {change:>+8.1f}%{flag}")
+
+    if regressions:
+        print(f"\n{regressions} benchmark(s) regressed by more than {args.threshold:.0f}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,145 @@
+package app.benchmark;
+
+import app.SimpleBookingsApplication;
+import app.booking.service.BookingService;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    private static final int ROOMS = 200;
+    private static final int USERS = 500;
+    private static final int DAYS = 365;
+    private static final int PROBES = 1024;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private UUID[] roomIds;
+    private LocalDateTime[] bookedStarts;
+    private LocalDateTime[] freeStarts;
+    private int[] probeRooms;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SimpleBookingsApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--management.server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        bookingService = context.getBean(BookingService.class);
+        seed(context.getBean(JdbcTemplate.class), new Random(BenchmarkFixtures.SEED));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean availableSlot() {
+        int probe = next();
+        return bookingService.isRoomAvailable(roomIds[probeRooms[probe]], freeStarts[probe], freeStarts[probe].plusHours(1));
+    }
+
+    @Benchmark
+    public boolean bookedSlot() {
+        int probe = next();
+        return bookingService.isRoomAvailable(roomIds[probeRooms[probe]], bookedStarts[probe], bookedStarts[probe].plusHours(1));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate, Random random) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime firstDay = now.toLocalDate().plusDays(1).atStartOfDay();
+
+        roomIds = new UUID[ROOMS];
+        List<Object[]> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            roomIds[i] = UUID.randomUUID();
+            rooms.add(new Object[]{roomIds[i], "Benchmark Room " + i, "Floor " + (i % 20), 2 + random.nextInt(40),
+                    (2000 + random.nextInt(48000)) / 100.0, "Benchmark room", true, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("insert into room (id, name, location, capacity, base_price_per_hour, description, visible, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", rooms);
+
+        UUID[] userIds = new UUID[USERS];
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = UUID.randomUUID();
+            users.add(new Object[]{userIds[i], "bench" + i, "bench" + i + "@example.com", "{noop}password",
+                    "USER", "ACTIVE", Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("insert into `user` (id, username, email, password, role, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> blackouts = new ArrayList<>();
+        for (UUID roomId : roomIds) {
+            for (int day = 0; day < DAYS; day++) {
+                LocalDateTime dayStart = firstDay.plusDays(day);
+                int slots = 1 + random.nextInt(3);
+                for (int slot = 0; slot < slots; slot++) {
+                    LocalDateTime startAt = dayStart.plusHours(8 + slot * 3L);
+                    String status = random.nextInt(10) == 0 ? "CANCELED" : "CONFIRMED";
+                    bookings.add(new Object[]{UUID.randomUUID(), userIds[random.nextInt(USERS)], roomId,
+                            Timestamp.valueOf(startAt), Timestamp.valueOf(startAt.plusHours(2)), status, Timestamp.valueOf(now)});
+                }
+                if (day % 30 == 0) {
+                    blackouts.add(new Object[]{UUID.randomUUID(), roomId, Timestamp.valueOf(dayStart.plusHours(6)),
+                            Timestamp.valueOf(dayStart.plusHours(7)), "Cleaning", "benchmark", Timestamp.valueOf(now)});
+                }
+            }
+            if (bookings.size() >= 10_000) {
+                insertBookings(jdbcTemplate, bookings);
+                bookings.clear();
+            }
+        }
+        insertBookings(jdbcTemplate, bookings);
+        jdbcTemplate.batchUpdate("insert into room_blackout (id, room_id, start_at, end_at, reason, created_by, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", blackouts);
+
+        probeRooms = new int[PROBES];
+        bookedStarts = new LocalDateTime[PROBES];
+        freeStarts = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeRooms[i] = random.nextInt(ROOMS);
+            LocalDateTime dayStart = firstDay.plusDays(random.nextInt(DAYS));
+            bookedStarts[i] = dayStart.plusHours(8).plusMinutes(30);
+            freeStarts[i] = dayStart.plusHours(20);
+        }
+    }
+
+    private static void insertBookings(JdbcTemplate jdbcTemplate, List<Object[]> bookings) {
+        jdbcTemplate.batchUpdate("insert into booking (id, user_id, room_id, start_at, end_at, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", bookings);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,103 @@
+package app.benchmark;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.promocode.model.PromoCode;
+import app.room.model.Room;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.model.UserStatus;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final long SEED = 42;
+    static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Room> rooms(int count, Random random) {
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rooms.add(Room.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Room " + i)
+                    .location("Floor " + (i % 20))
+                    .capacity(2 + random.nextInt(40))
+                    .basePricePerHour(BigDecimal.valueOf(2000 + random.nextInt(48000), 2))
+                    .description("Benchmark room " + i + " with a short description of its equipment.")
+                    .visible(random.nextInt(10) > 0)
+                    .createdAt(EPOCH.minusDays(random.nextInt(1000)))
+                    .build());
+        }
+        return rooms;
+    }
+
+    static List<PromoCode> promoCodes(int count, Random random) {
+        List<PromoCode> promoCodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            promoCodes.add(PromoCode.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .code("PROMO" + i)
+                    .percent(5 + random.nextInt(46))
+                    .validFrom(EPOCH.minusDays(30))
+                    .validTo(EPOCH.plusDays(365))
+                    .active(random.nextInt(5) > 0)
+                    .createdAt(EPOCH.minusDays(30))
+                    .build());
+        }
+        return promoCodes;
+    }
+
+    static User user(Random random) {
+        return User.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .username("bench-user")
+                .email("bench-user@example.com")
+                .password("{noop}password")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .createdAt(EPOCH.minusDays(400))
+                .build();
+    }
+
+    static List<Booking> bookings(int count, User user, List<Room> rooms, List<PromoCode> promoCodes, Random random) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startAt = EPOCH.plusDays(random.nextInt(365)).plusHours(7 + random.nextInt(12))
+                    .plusMinutes(random.nextInt(4) * 15L);
+            bookings.add(Booking.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .user(user)
+                    .room(rooms.get(random.nextInt(rooms.size())))
+                    .promoCode(random.nextInt(10) < 3 ? promoCodes.get(random.nextInt(promoCodes.size())) : null)
+                    .startAt(startAt)
+                    .endAt(startAt.plusMinutes(30 + random.nextInt(16) * 30L))
+                    .status(random.nextInt(10) == 0 ? BookingStatus.CANCELED : BookingStatus.CONFIRMED)
+                    .createdAt(startAt.minusDays(1 + random.nextInt(60)))
+                    .build());
+        }
+        return bookings;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (results.containsKey(method.getName())) {
+                return results.get(method.getName());
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(results, args);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
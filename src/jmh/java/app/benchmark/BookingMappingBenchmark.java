@@ -0,0 +1,56 @@
+package app.benchmark;
+
+import app.booking.model.Booking;
+import app.booking.repository.BookingRepository;
+import app.booking.service.BookingPriceCalculator;
+import app.booking.service.BookingService;
+import app.user.model.User;
+import app.web.dto.BookingDetailsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BookingMappingBenchmark {
+
+    @Param({"10", "200", "5000"})
+    private int bookingsPerUser;
+
+    private BookingService bookingService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        user = BenchmarkFixtures.user(random);
+        List<Booking> bookings = BenchmarkFixtures.bookings(bookingsPerUser, user,
+                BenchmarkFixtures.rooms(200, random), BenchmarkFixtures.promoCodes(50, random), random);
+        BookingRepository bookingRepository = BenchmarkFixtures.repository(BookingRepository.class,
+                Map.of("findAllByUserId", bookings));
+        bookingService = new BookingService(bookingRepository, null, null, null, null,
+                new BookingPriceCalculator(), null, null, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<BookingDetailsResponse> buildDetailsResponses() {
+        return bookingService.getAllBookingsByUserId(user.getId());
+    }
+}
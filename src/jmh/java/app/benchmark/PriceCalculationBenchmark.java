@@ -0,0 +1,69 @@
+package app.benchmark;
+
+import app.booking.model.Booking;
+import app.booking.service.BookingPriceCalculator;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PriceCalculationBenchmark {
+
+    private static final int FIXTURE_SIZE = 4096;
+
+    private final BookingPriceCalculator calculator = new BookingPriceCalculator();
+    private Booking[] bookings;
+    private BigDecimal[] totals;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        List<Booking> fixture = BenchmarkFixtures.bookings(FIXTURE_SIZE, BenchmarkFixtures.user(random),
+                BenchmarkFixtures.rooms(200, random), BenchmarkFixtures.promoCodes(50, random), random);
+        bookings = fixture.toArray(new Booking[0]);
+        totals = new BigDecimal[FIXTURE_SIZE];
+        for (int i = 0; i < FIXTURE_SIZE; i++) {
+            totals[i] = calculator.calculateTotalPrice(bookings[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalPrice() {
+        return calculator.calculateTotalPrice(bookings[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateDiscountAmount() {
+        int index = next();
+        return calculator.calculateDiscountAmount(bookings[index], totals[index]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAndDiscount() {
+        Booking booking = bookings[next()];
+        BigDecimal total = calculator.calculateTotalPrice(booking);
+        return total.subtract(calculator.calculateDiscountAmount(booking, total));
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (FIXTURE_SIZE - 1);
+        return cursor;
+    }
+}
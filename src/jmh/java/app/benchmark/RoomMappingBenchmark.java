@@ -0,0 +1,61 @@
+package app.benchmark;
+
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.room.service.RoomCatalogCache;
+import app.room.service.RoomService;
+import app.web.dto.RoomDetailsResponse;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class RoomMappingBenchmark {
+
+    @Param({"5", "100", "10000"})
+    private int roomCount;
+
+    private RoomService roomService;
+
+    @Setup
+    public void setUp() {
+        List<Room> rooms = BenchmarkFixtures.rooms(roomCount, new Random(BenchmarkFixtures.SEED));
+        List<Room> visibleRooms = rooms.stream()
+                .filter(Room::isVisible)
+                .sorted(Comparator.comparing(Room::getName))
+                .collect(Collectors.toList());
+        RoomRepository roomRepository = BenchmarkFixtures.repository(RoomRepository.class, Map.of(
+                "findAllByDeletedAtIsNull", rooms,
+                "findAllByVisibleTrueAndDeletedAtIsNullOrderByNameAsc", visibleRooms));
+        roomService = new RoomService(roomRepository, new RoomCatalogCache());
+    }
+
+    @Benchmark
+    public List<RoomDetailsResponse> getAllRooms() {
+        return roomService.getAllRooms();
+    }
+
+    @Benchmark
+    public List<RoomDetailsResponse> getVisibleRooms() {
+        return roomService.getVisibleRooms();
+    }
+}
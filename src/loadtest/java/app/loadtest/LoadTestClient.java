@@ -0,0 +1,148 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern CANCEL_ACTION = Pattern.compile("/bookings/([0-9a-f-]{36})/cancel");
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final LoadTestMetrics metrics;
+    private final String username;
+    private String sessionCookie;
+    private String csrfToken;
+
+    LoadTestClient(HttpClient httpClient, URI baseUri, LoadTestMetrics metrics, String username) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.metrics = metrics;
+        this.username = username;
+    }
+
+    void login(String password) throws IOException, InterruptedException {
+        csrfToken = extractCsrfToken(send(get("/login")).body());
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("username", username);
+        form.put("password", password);
+        HttpResponse<String> response = send(post("/login", form));
+        if (response.statusCode() != 302 || response.headers().firstValue("Location").orElse("").contains("error")) {
+            throw new IllegalStateException("Login failed for user: " + username);
+        }
+        csrfToken = extractCsrfToken(send(get("/users/profile")).body());
+    }
+
+    void browseRooms() throws IOException, InterruptedException {
+        timed(Operation.BROWSE_ROOMS, get("/rooms"));
+    }
+
+    void viewRoom(UUID roomId) throws IOException, InterruptedException {
+        timed(Operation.ROOM_DETAILS, get("/rooms/" + roomId));
+    }
+
+    void createBooking(Operation operation, UUID roomId, LocalDateTime startAt, LocalDateTime endAt)
+            throws IOException, InterruptedException {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("roomId", roomId.toString());
+        form.put("startAt", startAt.toString());
+        form.put("endAt", endAt.toString());
+        timed(operation, post("/bookings/create", form));
+    }
+
+    void cancelOneBooking(int pick) throws IOException, InterruptedException {
+        HttpResponse<String> bookings = timed(Operation.MY_BOOKINGS, get("/bookings"));
+        List<String> cancelable = new ArrayList<>();
+        Matcher matcher = CANCEL_ACTION.matcher(bookings.body());
+        while (matcher.find()) {
+            cancelable.add(matcher.group(1));
+        }
+        if (!cancelable.isEmpty()) {
+            timed(Operation.CANCEL_BOOKING, post("/bookings/" + cancelable.get(pick % cancelable.size()) + "/cancel", Map.of()));
+        }
+    }
+
+    private HttpResponse<String> timed(Operation operation, HttpRequest request) throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = send(request);
+        } catch (IOException e) {
+            metrics.record(operation, Outcome.ERROR, System.nanoTime() - startedAt);
+            throw e;
+        }
+        metrics.record(operation, classify(request, response), System.nanoTime() - startedAt);
+        return response;
+    }
+
+    private static Outcome classify(HttpRequest request, HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (request.method().equals("GET")) {
+            return status == 200 ? Outcome.OK : Outcome.ERROR;
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        if (status == 302 && location.contains("/bookings")) {
+            return Outcome.OK;
+        }
+        return status == 409 ? Outcome.REJECTED : Outcome.ERROR;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            if (cookie.startsWith("SESSION=")) {
+                sessionCookie = cookie.substring(0, cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length());
+            }
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Map<String, String> form) {
+        Map<String, String> body = new LinkedHashMap<>(form);
+        body.put("_csrf", csrfToken);
+        String encoded = body.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "=" +
+                        URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encoded))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        Optional.ofNullable(sessionCookie).ifPresent(cookie -> builder.header("Cookie", cookie));
+        return builder;
+    }
+
+    private String extractCsrfToken(String html) {
+        Matcher matcher = CSRF_TOKEN.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No CSRF token found for user: " + username);
+        }
+        return matcher.group(1);
+    }
+}
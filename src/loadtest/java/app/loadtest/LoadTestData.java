@@ -0,0 +1,7 @@
+package app.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+record LoadTestData(List<UUID> roomIds, List<UUID> stormRoomIds, List<String> usernames, String password) {
+}
@@ -0,0 +1,101 @@
+package app.loadtest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class LoadTestDataSeeder {
+
+    static final int STORM_ROOMS = 3;
+    private static final String PASSWORD = "loadtest123";
+    private static final int BATCH_SIZE = 5_000;
+    private static final int HISTORY_DAYS = 240;
+    private static final int FUTURE_DAYS = 60;
+    private static final int DAILY_SLOTS = 5;
+    private static final String[] STATUSES = {"CONFIRMED", "CONFIRMED", "CONFIRMED", "PENDING", "CANCELED"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random;
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, Random random) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.random = random;
+    }
+
+    LoadTestData seed(LoadTestOptions options) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UUID> roomIds = new ArrayList<>();
+        List<Object[]> rooms = new ArrayList<>();
+        for (int i = 0; i < options.rooms(); i++) {
+            UUID roomId = UUID.randomUUID();
+            roomIds.add(roomId);
+            rooms.add(new Object[]{roomId, "Load Test Room " + i, "Floor " + (i % 12), 2 + random.nextInt(40),
+                    (2000 + random.nextInt(48000)) / 100.0, "Meeting room with a projector and whiteboard.", true,
+                    Timestamp.valueOf(now.minusDays(random.nextInt(700)))});
+        }
+        jdbcTemplate.batchUpdate("insert into room (id, name, location, capacity, base_price_per_hour, description, visible, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", rooms);
+
+        String hashedPassword = passwordEncoder.encode(PASSWORD);
+        List<UUID> userIds = new ArrayList<>();
+        List<String> usernames = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+            usernames.add("loadtest" + i);
+            users.add(new Object[]{userId, "loadtest" + i, "loadtest" + i + "@example.com", hashedPassword,
+                    "USER", "ACTIVE", Timestamp.valueOf(now.minusDays(random.nextInt(700)))});
+        }
+        jdbcTemplate.batchUpdate("insert into `user` (id, username, email, password, role, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<UUID> regularRoomIds = roomIds.subList(STORM_ROOMS, roomIds.size());
+        long slots = (long) regularRoomIds.size() * HISTORY_DAYS * DAILY_SLOTS;
+        if ((long) options.users() * options.bookingsPerUser() > slots / 2) {
+            throw new IllegalArgumentException("Too many bookings per user for " + options.rooms() + " rooms");
+        }
+
+        LocalDateTime firstDay = now.toLocalDate().atStartOfDay().minusDays(HISTORY_DAYS - FUTURE_DAYS);
+        Set<Long> takenSlots = new HashSet<>();
+        List<Object[]> bookings = new ArrayList<>();
+        for (UUID userId : userIds) {
+            for (int i = 0; i < options.bookingsPerUser(); i++) {
+                long slot;
+                do {
+                    slot = (long) (random.nextDouble() * slots);
+                } while (!takenSlots.add(slot));
+                int room = (int) (slot / (HISTORY_DAYS * DAILY_SLOTS));
+                LocalDateTime startAt = firstDay
+                        .plusDays(slot / DAILY_SLOTS % HISTORY_DAYS)
+                        .plusHours(8 + 2 * (slot % DAILY_SLOTS));
+                bookings.add(new Object[]{UUID.randomUUID(), userId, regularRoomIds.get(room),
+                        Timestamp.valueOf(startAt), Timestamp.valueOf(startAt.plusHours(1 + random.nextInt(2))),
+                        STATUSES[random.nextInt(STATUSES.length)], Timestamp.valueOf(startAt.minusDays(1 + random.nextInt(30)))});
+                if (bookings.size() == BATCH_SIZE) {
+                    insertBookings(bookings);
+                    bookings.clear();
+                }
+            }
+        }
+        insertBookings(bookings);
+
+        return new LoadTestData(List.copyOf(regularRoomIds), List.copyOf(roomIds.subList(0, STORM_ROOMS)),
+                usernames, PASSWORD);
+    }
+
+    private void insertBookings(List<Object[]> bookings) {
+        jdbcTemplate.batchUpdate("insert into booking (id, user_id, room_id, start_at, end_at, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", bookings);
+    }
+}
@@ -0,0 +1,63 @@
+package app.loadtest;
+
+import app.util.LatencyHistogram;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoadTestMetrics {
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private volatile boolean recording;
+
+    LoadTestMetrics() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    void record(Operation operation, Outcome outcome, long nanos) {
+        if (!recording) {
+            return;
+        }
+        OperationStats operationStats = stats.get(operation);
+        operationStats.outcomes.get(outcome).increment();
+        operationStats.latency.record(nanos);
+    }
+
+    OperationStats get(Operation operation) {
+        return stats.get(operation);
+    }
+
+    long total(Outcome outcome) {
+        return stats.values().stream().mapToLong(operationStats -> operationStats.count(outcome)).sum();
+    }
+
+    static class OperationStats {
+
+        private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private OperationStats() {
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, new LongAdder());
+            }
+        }
+
+        long count(Outcome outcome) {
+            return outcomes.get(outcome).sum();
+        }
+
+        LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+}
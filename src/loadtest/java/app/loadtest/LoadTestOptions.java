@@ -0,0 +1,55 @@
+package app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+record LoadTestOptions(
+        int users,
+        int rooms,
+        int bookingsPerUser,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        long seed,
+        double maxErrorRate,
+        Path report) {
+
+    private static final Set<String> NAMES = Set.of(
+            "users", "rooms", "bookings-per-user", "warmup", "duration", "think-ms", "seed", "max-error-rate", "report");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Set<String> unknown = new TreeSet<>(values.keySet());
+        unknown.removeAll(NAMES);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + unknown + ", expected " + NAMES);
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "500")),
+                Integer.parseInt(values.getOrDefault("rooms", "50")),
+                Integer.parseInt(values.getOrDefault("bookings-per-user", "20")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("think-ms", "250"))),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.txt")));
+        if (options.users() < 1 || options.rooms() < LoadTestDataSeeder.STORM_ROOMS + 1) {
+            throw new IllegalArgumentException("At least 1 user and " + (LoadTestDataSeeder.STORM_ROOMS + 1) + " rooms are required");
+        }
+        return options;
+    }
+}
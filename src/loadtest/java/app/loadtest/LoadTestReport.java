@@ -0,0 +1,96 @@
+package app.loadtest;
+
+import app.util.LatencyHistogram;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+class LoadTestReport {
+
+    private static final int BAR_WIDTH = 50;
+
+    private final LoadTestOptions options;
+    private final LoadTestMetrics metrics;
+    private final Duration elapsed;
+    private final long overlapCount;
+    private final String clientThreads;
+
+    LoadTestReport(LoadTestOptions options, LoadTestMetrics metrics, Duration elapsed, long overlapCount, String clientThreads) {
+        this.options = options;
+        this.metrics = metrics;
+        this.elapsed = elapsed;
+        this.overlapCount = overlapCount;
+        this.clientThreads = clientThreads;
+    }
+
+    boolean passed() {
+        return overlapCount == 0 && errorRate() <= options.maxErrorRate();
+    }
+
+    double errorRate() {
+        long total = metrics.total(Outcome.OK) + metrics.total(Outcome.REJECTED) + metrics.total(Outcome.ERROR);
+        return total == 0 ? 0 : (double) metrics.total(Outcome.ERROR) / total;
+    }
+
+    String render() {
+        StringBuilder report = new StringBuilder();
+        double seconds = Math.max(1, elapsed.toMillis()) / 1000.0;
+        report.append(format("Load test: %d users on %s threads, %d rooms, think time %d ms, measured %.1f s after %d s warmup%n",
+                options.users(), clientThreads, options.rooms(), options.thinkTime().toMillis(), seconds, options.warmup().toSeconds()));
+        report.append(format("%n%-40s %8s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Operation", "ok", "rejected", "errors", "req/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Operation operation : Operation.values()) {
+            LoadTestMetrics.OperationStats stats = metrics.get(operation);
+            LatencyHistogram latency = stats.getLatency();
+            report.append(format("%-40s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.getLabel(), stats.count(Outcome.OK), stats.count(Outcome.REJECTED), stats.count(Outcome.ERROR),
+                    latency.count() / seconds, latency.meanMillis(), latency.percentileMillis(50),
+                    latency.percentileMillis(90), latency.percentileMillis(99), latency.maxMillis()));
+        }
+
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram latency = metrics.get(operation).getLatency();
+            if (latency.count() == 0) {
+                continue;
+            }
+            report.append(format("%n%s latency histogram%n", operation.getLabel()));
+            Map<Long, Long> bins = powerOfTwoBins(latency);
+            long largest = bins.values().stream().mapToLong(Long::longValue).max().orElse(1);
+            for (Map.Entry<Long, Long> bin : bins.entrySet()) {
+                long lower = bin.getKey();
+                long upper = lower * 2;
+                int width = (int) Math.max(1, bin.getValue() * BAR_WIDTH / largest);
+                report.append(format("  %10s - %-10s %8d %s%n", duration(lower), duration(upper), bin.getValue(), "#".repeat(width)));
+            }
+        }
+
+        report.append(format("%nError rate: %.3f%% (limit %.3f%%)%n", errorRate() * 100, options.maxErrorRate() * 100));
+        report.append(format("Overlapping active bookings after run: %d%n", overlapCount));
+        report.append(passed() ? "Result: PASSED\n" : "Result: FAILED\n");
+        return report.toString();
+    }
+
+    private static Map<Long, Long> powerOfTwoBins(LatencyHistogram latency) {
+        Map<Long, Long> bins = new TreeMap<>();
+        for (Map.Entry<Double, Long> bucket : latency.countsByUpperBoundMillis().entrySet()) {
+            long micros = Math.max(1, Math.round(bucket.getKey() * 1000));
+            bins.merge(Long.highestOneBit(micros), bucket.getValue(), Long::sum);
+        }
+        return bins;
+    }
+
+    private static String duration(long micros) {
+        if (micros < 1_000) {
+            return micros + " us";
+        }
+        if (micros < 1_000_000) {
+            return format("%.1f ms", micros / 1000.0);
+        }
+        return format("%.2f s", micros / 1_000_000.0);
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+}
@@ -0,0 +1,205 @@
+package app.loadtest;
+
+import app.SimpleBookingsApplication;
+import app.audit.service.OverlapAuditService;
+import app.web.dto.OverlapAuditResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final Duration AUDIT_TIMEOUT = Duration.ofMinutes(2);
+    private static final int STORM_DAYS_AHEAD = 400;
+    private static final int LOGIN_CONCURRENCY = 16;
+
+    private final LoadTestOptions options;
+    private final ConfigurableApplicationContext context;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+    private String clientThreads;
+
+    LoadTestRunner(LoadTestOptions options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.context = context;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SimpleBookingsApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--management.server.port=0", "--spring.main.banner-mode=off",
+                        "--app.diagnostics.query-budget.enforce=false",
+                        "--logging.level.root=WARN", "--logging.level.app=ERROR", "--logging.level.app.loadtest=INFO",
+                        "--logging.level.org.apache.catalina.core=OFF",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        boolean passed;
+        try {
+            passed = new LoadTestRunner(options, context).run();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    boolean run() throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        long seedingStartedAt = System.nanoTime();
+        LoadTestData data = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class),
+                new Random(options.seed())).seed(options);
+        logger.info("Seeded {} users, {} rooms and {} bookings in {} ms", options.users(), options.rooms(),
+                (long) options.users() * options.bookingsPerUser(), (System.nanoTime() - seedingStartedAt) / 1_000_000);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ExecutorService executor = clientExecutor();
+        try {
+            List<LoadTestClient> clients = new ArrayList<>();
+            List<Callable<Void>> logins = new ArrayList<>();
+            Semaphore loginPermits = new Semaphore(LOGIN_CONCURRENCY);
+            for (String username : data.usernames()) {
+                LoadTestClient client = new LoadTestClient(httpClient, baseUri, metrics, username);
+                clients.add(client);
+                logins.add(() -> {
+                    loginPermits.acquire();
+                    try {
+                        client.login(data.password());
+                    } finally {
+                        loginPermits.release();
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> login : executor.invokeAll(logins)) {
+                login.get();
+            }
+            logger.info("Logged in {} clients on {} threads", clients.size(), clientThreads);
+
+            long startedAt = System.nanoTime();
+            long measureFrom = startedAt + options.warmup().toNanos();
+            long deadline = measureFrom + options.duration().toNanos();
+            LocalDateTime stormBase = LocalDateTime.now().toLocalDate().plusDays(STORM_DAYS_AHEAD).atStartOfDay();
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < clients.size(); i++) {
+                LoadTestClient client = clients.get(i);
+                Random random = new Random(options.seed() + i);
+                workers.add(executor.submit(() -> drive(client, random, data, stormBase, startedAt, deadline)));
+            }
+
+            sleepUntil(measureFrom);
+            metrics.startRecording();
+            logger.info("Warmup finished, measuring for {} s", options.duration().toSeconds());
+            sleepUntil(deadline);
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            metrics.stopRecording();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - measureFrom);
+
+            LoadTestReport report = new LoadTestReport(options, metrics, elapsed, auditOverlaps(), clientThreads);
+            String rendered = report.render();
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            Files.writeString(options.report(), rendered);
+            System.out.println(rendered);
+            logger.info("Report written to {}", options.report().toAbsolutePath());
+            return report.passed();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void drive(LoadTestClient client, Random random, LoadTestData data, LocalDateTime stormBase,
+                       long startedAt, long deadline) throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            try {
+                int action = random.nextInt(100);
+                if (action < 35) {
+                    client.browseRooms();
+                } else if (action < 60) {
+                    client.viewRoom(data.roomIds().get(random.nextInt(data.roomIds().size())));
+                } else if (action < 80) {
+                    LocalDateTime startAt = LocalDateTime.now().toLocalDate().atStartOfDay()
+                            .plusDays(1 + random.nextInt(90))
+                            .plusHours(8 + random.nextInt(12));
+                    client.createBooking(Operation.CREATE_BOOKING, data.roomIds().get(random.nextInt(data.roomIds().size())),
+                            startAt, startAt.plusHours(1));
+                } else if (action < 90) {
+                    client.cancelOneBooking(random.nextInt(Integer.MAX_VALUE));
+                } else {
+                    long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt);
+                    UUID roomId = data.stormRoomIds().get((int) (second % data.stormRoomIds().size()));
+                    LocalDateTime startAt = stormBase.plusHours(second);
+                    client.createBooking(Operation.CONFLICTING_BOOKING, roomId, startAt, startAt.plusHours(1));
+                }
+            } catch (IOException e) {
+                logger.debug("Request failed", e);
+            }
+            long thinkMillis = options.thinkTime().toMillis();
+            if (thinkMillis > 0) {
+                Thread.sleep(random.nextInt((int) thinkMillis * 2 + 1));
+            }
+        }
+        return null;
+    }
+
+    private long auditOverlaps() throws InterruptedException {
+        OverlapAuditService overlapAuditService = context.getBean(OverlapAuditService.class);
+        overlapAuditService.startAudit("loadtest");
+        long deadline = System.nanoTime() + AUDIT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            OverlapAuditResponse audit = overlapAuditService.getLatestAudit().orElse(null);
+            if (audit != null && !audit.isRunning()) {
+                if (audit.getError() != null) {
+                    throw new IllegalStateException("Overlap audit failed: " + audit.getError());
+                }
+                return audit.getOverlapCount();
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Overlap audit did not finish within " + AUDIT_TIMEOUT);
+    }
+
+    private ExecutorService clientExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            clientThreads = "virtual";
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            clientThreads = "platform";
+            return Executors.newFixedThreadPool(options.users());
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package app.loadtest;
+
+enum Operation {
+
+    BROWSE_ROOMS("GET /rooms"),
+    ROOM_DETAILS("GET /rooms/{id}"),
+    MY_BOOKINGS("GET /bookings"),
+    CREATE_BOOKING("POST /bookings/create"),
+    CONFLICTING_BOOKING("POST /bookings/create (conflict storm)"),
+    CANCEL_BOOKING("POST /bookings/{id}/cancel");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,8 @@
+package app.loadtest;
+
+enum Outcome {
+
+    OK,
+    REJECTED,
+    ERROR
+}
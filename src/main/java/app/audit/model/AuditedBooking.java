@@ -0,0 +1,7 @@
+package app.audit.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuditedBooking(UUID id, UUID roomId, LocalDateTime startAt, LocalDateTime endAt) {
+}
@@ -0,0 +1,8 @@
+package app.audit.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingOverlap(UUID roomId, UUID firstBookingId, UUID secondBookingId,
+                             LocalDateTime overlapStart, LocalDateTime overlapEnd) {
+}
@@ -0,0 +1,57 @@
+package app.audit.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class OverlapAuditRun {
+
+    private final String requestedBy;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong scannedBookings = new AtomicLong();
+    private final AtomicLong scannedRooms = new AtomicLong();
+    private final AtomicLong overlapCount = new AtomicLong();
+    private final Map<UUID, Long> overlapsByRoom = new ConcurrentHashMap<>();
+    private final List<BookingOverlap> overlaps = new ArrayList<>();
+    private final int maxReportedOverlaps;
+    private volatile boolean running = true;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public OverlapAuditRun(String requestedBy, int maxReportedOverlaps) {
+        this.requestedBy = requestedBy;
+        this.maxReportedOverlaps = maxReportedOverlaps;
+    }
+
+    public void recordOverlap(BookingOverlap overlap) {
+        overlapCount.incrementAndGet();
+        overlapsByRoom.merge(overlap.roomId(), 1L, Long::sum);
+        synchronized (overlaps) {
+            if (overlaps.size() < maxReportedOverlaps) {
+                overlaps.add(overlap);
+            }
+        }
+    }
+
+    public List<BookingOverlap> getReportedOverlaps() {
+        synchronized (overlaps) {
+            return List.copyOf(overlaps);
+        }
+    }
+
+    public boolean isTruncated() {
+        return overlapCount.get() > maxReportedOverlaps;
+    }
+
+    public void finish(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.running = false;
+    }
+}
@@ -0,0 +1,29 @@
+package app.audit.repository;
+
+import app.audit.model.AuditedBooking;
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OverlapAuditRepository extends org.springframework.data.repository.Repository<Booking, UUID> {
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "5000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select new app.audit.model.AuditedBooking(b.id, b.room.id, b.startAt, b.endAt) from Booking b " +
+            "where b.status <> :excluded order by b.room.id, b.startAt")
+    Stream<AuditedBooking> streamOrderedByRoomAndStart(@Param("excluded") BookingStatus excluded);
+
+    @Query("select b from Booking b join fetch b.user join fetch b.room left join fetch b.promoCode where b.id in :ids")
+    List<Booking> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,202 @@
+package app.audit.service;
+
+import app.audit.model.AuditedBooking;
+import app.audit.model.BookingOverlap;
+import app.audit.model.OverlapAuditRun;
+import app.audit.repository.OverlapAuditRepository;
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.web.dto.BookingOverlapResponse;
+import app.web.dto.OverlapAuditResponse;
+import app.web.dto.RoomOverlapResponse;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OverlapAuditService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverlapAuditService.class);
+
+    private final OverlapAuditRepository overlapAuditRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int maxReportedOverlaps;
+    private final AtomicReference<OverlapAuditRun> latestRun = new AtomicReference<>();
+
+    public OverlapAuditService(
+            OverlapAuditRepository overlapAuditRepository,
+            RoomRepository roomRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.audit.max-reported-overlaps:1000}") int maxReportedOverlaps) {
+        this.overlapAuditRepository = overlapAuditRepository;
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxReportedOverlaps = maxReportedOverlaps;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overlap-audit");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void startAudit(String requestedBy) {
+        OverlapAuditRun run = claimRun(requestedBy);
+        executor.execute(() -> runAudit(run));
+    }
+
+    @Scheduled(cron = "${app.audit.cron:0 0 4 * * *}")
+    public void scheduledAudit() {
+        try {
+            runAudit(claimRun("scheduler"));
+        } catch (IllegalStateException e) {
+            logger.info("Skipping scheduled overlap audit: {}", e.getMessage());
+        }
+    }
+
+    public Optional<OverlapAuditResponse> getLatestAudit() {
+        OverlapAuditRun run = latestRun.get();
+        if (run == null) {
+            return Optional.empty();
+        }
+        return Optional.of(transactionTemplate.execute(status -> buildResponse(run)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private OverlapAuditRun claimRun(String requestedBy) {
+        OverlapAuditRun run = new OverlapAuditRun(requestedBy, maxReportedOverlaps);
+        OverlapAuditRun previous = latestRun.get();
+        if ((previous != null && previous.isRunning()) || !latestRun.compareAndSet(previous, run)) {
+            throw new IllegalStateException("An overlap audit is already running");
+        }
+        return run;
+    }
+
+    private void runAudit(OverlapAuditRun run) {
+        logger.info("Overlap audit started by {}", run.getRequestedBy());
+        try {
+            transactionTemplate.executeWithoutResult(status -> sweep(run));
+            run.finish(null);
+            logger.info("Overlap audit finished: {} bookings in {} rooms, {} overlapping pairs",
+                    run.getScannedBookings().get(), run.getScannedRooms().get(), run.getOverlapCount().get());
+        } catch (RuntimeException e) {
+            run.finish(e.getMessage());
+            logger.warn("Overlap audit failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void sweep(OverlapAuditRun run) {
+        PriorityQueue<AuditedBooking> active = new PriorityQueue<>(Comparator.comparing(AuditedBooking::endAt));
+        UUID currentRoomId = null;
+        try (Stream<AuditedBooking> bookings = overlapAuditRepository.streamOrderedByRoomAndStart(BookingStatus.CANCELED)) {
+            Iterator<AuditedBooking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                AuditedBooking booking = iterator.next();
+                if (!booking.roomId().equals(currentRoomId)) {
+                    active.clear();
+                    currentRoomId = booking.roomId();
+                    run.getScannedRooms().incrementAndGet();
+                }
+
+                while (!active.isEmpty() && !active.peek().endAt().isAfter(booking.startAt())) {
+                    active.poll();
+                }
+                for (AuditedBooking other : active) {
+                    LocalDateTime overlapEnd = other.endAt().isBefore(booking.endAt()) ? other.endAt() : booking.endAt();
+                    run.recordOverlap(new BookingOverlap(currentRoomId, other.id(), booking.id(), booking.startAt(), overlapEnd));
+                }
+                if (booking.endAt().isAfter(booking.startAt())) {
+                    active.add(booking);
+                }
+                run.getScannedBookings().incrementAndGet();
+            }
+        }
+    }
+
+    private OverlapAuditResponse buildResponse(OverlapAuditRun run) {
+        List<BookingOverlap> overlaps = run.getReportedOverlaps();
+        Set<UUID> bookingIds = new HashSet<>();
+        overlaps.forEach(overlap -> {
+            bookingIds.add(overlap.firstBookingId());
+            bookingIds.add(overlap.secondBookingId());
+        });
+        Map<UUID, Booking> bookings = bookingIds.isEmpty() ? Map.of()
+                : overlapAuditRepository.findAllWithDetailsByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<UUID, String> roomNames = roomRepository.findAllById(run.getOverlapsByRoom().keySet()).stream()
+                .collect(Collectors.toMap(Room::getId, Room::getName));
+
+        List<RoomOverlapResponse> rooms = run.getOverlapsByRoom().entrySet().stream()
+                .map(entry -> RoomOverlapResponse.builder()
+                        .roomId(entry.getKey())
+                        .roomName(roomNames.getOrDefault(entry.getKey(), entry.getKey().toString()))
+                        .overlaps(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(RoomOverlapResponse::getOverlaps).reversed())
+                .collect(Collectors.toList());
+
+        List<BookingOverlapResponse> pairs = overlaps.stream()
+                .filter(overlap -> bookings.containsKey(overlap.firstBookingId()) && bookings.containsKey(overlap.secondBookingId()))
+                .map(overlap -> {
+                    Booking first = bookings.get(overlap.firstBookingId());
+                    Booking second = bookings.get(overlap.secondBookingId());
+                    return BookingOverlapResponse.builder()
+                            .roomName(first.getRoom().getName())
+                            .firstBookingId(first.getId())
+                            .firstUsername(first.getUser().getUsername())
+                            .firstStartAt(first.getStartAt())
+                            .firstEndAt(first.getEndAt())
+                            .secondBookingId(second.getId())
+                            .secondUsername(second.getUser().getUsername())
+                            .secondStartAt(second.getStartAt())
+                            .secondEndAt(second.getEndAt())
+                            .overlapStart(overlap.overlapStart())
+                            .overlapEnd(overlap.overlapEnd())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return OverlapAuditResponse.builder()
+                .running(run.isRunning())
+                .requestedBy(run.getRequestedBy())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .scannedBookings(run.getScannedBookings().get())
+                .scannedRooms(run.getScannedRooms().get())
+                .overlapCount(run.getOverlapCount().get())
+                .truncated(run.isTruncated())
+                .error(run.getError())
+                .rooms(rooms)
+                .overlaps(pairs)
+                .build();
+    }
+}
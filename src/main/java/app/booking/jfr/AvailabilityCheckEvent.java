@@ -0,0 +1,40 @@
+package app.booking.jfr;
+
+import app.util.OperationEvent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.booking.AvailabilityCheck")
+@Label("Availability Check")
+public class AvailabilityCheckEvent extends OperationEvent {
+
+    @Label("Room ID")
+    String roomId;
+
+    @Label("Start")
+    String startAt;
+
+    @Label("End")
+    String endAt;
+
+    @Label("Excluded Booking ID")
+    String excludedBookingId;
+
+    public static AvailabilityCheckEvent start(UUID roomId, LocalDateTime startAt, LocalDateTime endAt, UUID excludedBookingId) {
+        AvailabilityCheckEvent event = new AvailabilityCheckEvent();
+        if (event.isEnabled()) {
+            event.roomId = String.valueOf(roomId);
+            event.startAt = String.valueOf(startAt);
+            event.endAt = String.valueOf(endAt);
+            event.excludedBookingId = excludedBookingId != null ? excludedBookingId.toString() : null;
+        }
+        event.startTracking();
+        return event;
+    }
+
+    public void available(boolean available) {
+        outcome(available ? "available" : "conflict");
+    }
+}
@@ -0,0 +1,49 @@
+package app.booking.jfr;
+
+import app.booking.service.BookingConflictException;
+import app.util.OperationEvent;
+import java.util.UUID;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.booking.Operation")
+@Label("Booking Operation")
+public class BookingOperationEvent extends OperationEvent {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Room ID")
+    String roomId;
+
+    @Label("Booking ID")
+    String bookingId;
+
+    public static BookingOperationEvent start(String operation, UUID roomId, UUID bookingId) {
+        BookingOperationEvent event = new BookingOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.room(roomId);
+            event.booking(bookingId);
+        }
+        event.startTracking();
+        return event;
+    }
+
+    public void room(UUID roomId) {
+        if (roomId != null && isEnabled()) {
+            this.roomId = roomId.toString();
+        }
+    }
+
+    public void booking(UUID bookingId) {
+        if (bookingId != null && isEnabled()) {
+            this.bookingId = bookingId.toString();
+        }
+    }
+
+    @Override
+    protected String failureOutcome(RuntimeException e) {
+        return e instanceof BookingConflictException ? "conflict" : super.failureOutcome(e);
+    }
+}
@@ -0,0 +1,13 @@
+package app.booking.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface BookingSpan {
+    UUID getRoomId();
+    LocalDateTime getStartAt();
+    LocalDateTime getEndAt();
+    BigDecimal getBasePricePerHour();
+    Integer getPromoPercent();
+}
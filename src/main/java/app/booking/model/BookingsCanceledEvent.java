@@ -0,0 +1,6 @@
+package app.booking.model;
+
+import java.util.List;
+
+public record BookingsCanceledEvent(List<CanceledBooking> bookings, String reason) {
+}
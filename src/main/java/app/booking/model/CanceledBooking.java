@@ -0,0 +1,8 @@
+package app.booking.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CanceledBooking(UUID bookingId, UUID userId, String username, String email,
+                              UUID roomId, String roomName, LocalDateTime startAt, LocalDateTime endAt) {
+}
@@ -0,0 +1,11 @@
+package app.booking.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyBookingTotals {
+    LocalDate getDay();
+    long getBookings();
+    long getBookedMinutes();
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,12 @@
+package app.booking.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface RoomBookingTotals {
+    UUID getRoomId();
+    String getRoomName();
+    long getBookings();
+    long getBookedMinutes();
+    BigDecimal getRevenue();
+}
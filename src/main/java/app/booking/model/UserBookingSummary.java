@@ -0,0 +1,52 @@
+package app.booking.model;
+
+import app.user.model.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class UserBookingSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(nullable = false)
+    private long totalBookings;
+
+    @Column(nullable = false)
+    private long upcomingBookings;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalSpent;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal promoSavings;
+
+    private LocalDateTime nextStartAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
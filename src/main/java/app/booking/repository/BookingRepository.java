@@ -1,15 +1,88 @@
 package app.booking.repository;
 
 import app.booking.model.Booking;
+import app.booking.model.BookingSpan;
+import app.booking.model.BookingStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
-    List<Booking> findAllByUserId(UUID userId);
-    List<Booking> findAllByRoomId(UUID roomId);
-    boolean existsByRoomIdAndStartAtLessThanAndEndAtGreaterThan(UUID roomId, LocalDateTime end, LocalDateTime start);
+    Optional<Booking> findByIdAndUserId(UUID id, UUID userId);
+    List<Booking> findAllByPromoCodeIdAndStatusNot(UUID promoCodeId, BookingStatus status);
+    long countByUserIdAndStatusNotAndStartAtAfter(UUID userId, BookingStatus status, LocalDateTime after);
+    Optional<Booking> findFirstByUserIdAndStatusNotAndStartAtAfterOrderByStartAtAsc(UUID userId, BookingStatus status, LocalDateTime after);
+
+    @Query("select b from Booking b join fetch b.user join fetch b.room left join fetch b.promoCode where b.user.id = :userId")
+    List<Booking> findAllByUserId(@Param("userId") UUID userId);
+
+    @Query("select b from Booking b join fetch b.user join fetch b.room left join fetch b.promoCode where b.room.id = :roomId")
+    List<Booking> findAllByRoomId(@Param("roomId") UUID roomId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select b.room.id as roomId, b.startAt as startAt, b.endAt as endAt, " +
+            "b.room.basePricePerHour as basePricePerHour, p.percent as promoPercent " +
+            "from Booking b left join b.promoCode p " +
+            "where b.status <> :excluded and b.startAt < :to and b.endAt > :from")
+    Stream<BookingSpan> streamSpansOverlapping(@Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("excluded") BookingStatus excluded);
+
+    @Query("select b.room.id as roomId, b.startAt as startAt, b.endAt as endAt, " +
+            "b.room.basePricePerHour as basePricePerHour, p.percent as promoPercent " +
+            "from Booking b left join b.promoCode p " +
+            "where b.room.id = :roomId and b.status <> :excluded and b.startAt < :to and b.endAt > :from")
+    List<BookingSpan> findSpansOverlappingRoom(@Param("roomId") UUID roomId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("excluded") BookingStatus excluded);
+
+    @Query("select case when exists (select 1 from Booking b where b.room.id = :roomId and b.status <> :excluded " +
+            "and (:ignoredBookingId is null or b.id <> :ignoredBookingId) and b.startAt < :endAt and b.endAt > :startAt) " +
+            "or exists (select 1 from RoomBlackout w where w.room.id = :roomId and w.startAt < :endAt and w.endAt > :startAt) " +
+            "then true else false end from Room r where r.id = :roomId")
+    boolean existsConflict(@Param("roomId") UUID roomId,
+                           @Param("startAt") LocalDateTime startAt,
+                           @Param("endAt") LocalDateTime endAt,
+                           @Param("ignoredBookingId") UUID ignoredBookingId,
+                           @Param("excluded") BookingStatus excluded);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b join fetch b.user left join fetch b.promoCode " +
+            "where b.room.id = :roomId and b.status <> :excluded " +
+            "and b.startAt < :endAt and b.endAt > :startAt and b.startAt > :after order by b.startAt")
+    List<Booking> findAllForUpdateInRoomOverlapping(@Param("roomId") UUID roomId,
+                                                    @Param("startAt") LocalDateTime startAt,
+                                                    @Param("endAt") LocalDateTime endAt,
+                                                    @Param("after") LocalDateTime after,
+                                                    @Param("excluded") BookingStatus excluded,
+                                                    Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b join fetch b.user left join fetch b.promoCode " +
+            "where b.room.id = :roomId and b.status <> :excluded and b.startAt > :after order by b.startAt")
+    List<Booking> findAllForUpdateInRoomStartingAfter(@Param("roomId") UUID roomId,
+                                                      @Param("after") LocalDateTime after,
+                                                      @Param("excluded") BookingStatus excluded,
+                                                      Pageable pageable);
+
+    long countByRoomIdAndStatusNotAndStartAtAfter(UUID roomId, BookingStatus status, LocalDateTime after);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Booking b set b.status = :status where b.id in :ids and b.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids, @Param("status") BookingStatus status);
 }
@@ -0,0 +1,68 @@
+package app.booking.repository;
+
+import app.booking.model.DailyBookingTotals;
+import app.booking.model.RoomBookingTotals;
+import app.booking.model.RoomDailyStats;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoomDailyStatsRepository extends JpaRepository<RoomDailyStats, UUID> {
+    List<RoomDailyStats> findAllByDayBetween(LocalDate from, LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from RoomDailyStats s where s.room.id = :roomId and s.day = :day")
+    Optional<RoomDailyStats> findByRoomIdAndDayForUpdate(@Param("roomId") UUID roomId, @Param("day") LocalDate day);
+
+    @Modifying
+    @Query(value = "insert into room_daily_stats (id, room_id, stats_day, bookings, booked_minutes, revenue, updated_at) " +
+            "values (:id, :roomId, :day, :bookings, :minutes, :revenue, :now) " +
+            "on duplicate key update bookings = bookings + :bookings, booked_minutes = booked_minutes + :minutes, " +
+            "revenue = revenue + :revenue, updated_at = :now", nativeQuery = true)
+    void upsert(@Param("id") UUID id,
+                @Param("roomId") UUID roomId,
+                @Param("day") LocalDate day,
+                @Param("bookings") long bookings,
+                @Param("minutes") long minutes,
+                @Param("revenue") BigDecimal revenue,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RoomDailyStats s set s.bookings = s.bookings + :bookings, " +
+            "s.bookedMinutes = s.bookedMinutes + :minutes, s.revenue = s.revenue + :revenue, " +
+            "s.updatedAt = :now where s.room.id = :roomId and s.day = :day")
+    int increment(@Param("roomId") UUID roomId,
+                  @Param("day") LocalDate day,
+                  @Param("bookings") long bookings,
+                  @Param("minutes") long minutes,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("now") LocalDateTime now);
+
+    @Query("select s.day as day, sum(s.bookings) as bookings, sum(s.bookedMinutes) as bookedMinutes, " +
+            "sum(s.revenue) as revenue from RoomDailyStats s where s.day between :from and :to " +
+            "group by s.day order by s.day")
+    List<DailyBookingTotals> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select s.day as day, s.bookings as bookings, s.bookedMinutes as bookedMinutes, s.revenue as revenue " +
+            "from RoomDailyStats s where s.room.id = :roomId and s.day between :from and :to order by s.day")
+    List<DailyBookingTotals> findDailyByRoom(@Param("roomId") UUID roomId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("select r.id as roomId, r.name as roomName, sum(s.bookings) as bookings, " +
+            "sum(s.bookedMinutes) as bookedMinutes, sum(s.revenue) as revenue " +
+            "from RoomDailyStats s join s.room r where s.day between :from and :to " +
+            "group by r.id, r.name order by sum(s.revenue) desc")
+    List<RoomBookingTotals> sumByRoom(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,53 @@
+package app.booking.repository;
+
+import app.booking.model.UserBookingSummary;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserBookingSummaryRepository extends JpaRepository<UserBookingSummary, UUID> {
+    Optional<UserBookingSummary> findByUserId(UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserBookingSummary s where s.user.id = :userId")
+    Optional<UserBookingSummary> findByUserIdForUpdate(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "insert into user_booking_summary (id, user_id, total_bookings, upcoming_bookings, total_spent, promo_savings, updated_at) " +
+            "values (:id, :userId, 0, 0, 0, 0, :now) on duplicate key update user_id = user_id", nativeQuery = true)
+    void insertIfAbsent(@Param("id") UUID id,
+                        @Param("userId") UUID userId,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update UserBookingSummary s set s.totalBookings = s.totalBookings + :bookings, " +
+            "s.upcomingBookings = s.upcomingBookings + :upcoming, s.totalSpent = s.totalSpent + :spent, " +
+            "s.promoSavings = s.promoSavings + :savings, s.updatedAt = :now where s.user.id = :userId")
+    int increment(@Param("userId") UUID userId,
+                  @Param("bookings") long bookings,
+                  @Param("upcoming") long upcoming,
+                  @Param("spent") BigDecimal spent,
+                  @Param("savings") BigDecimal savings,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update UserBookingSummary s set s.nextStartAt = :startAt " +
+            "where s.user.id = :userId and (s.nextStartAt is null or s.nextStartAt > :startAt)")
+    int lowerNextStartAt(@Param("userId") UUID userId, @Param("startAt") LocalDateTime startAt);
+
+    @Modifying
+    @Query("update UserBookingSummary s set s.nextStartAt = :nextStartAt " +
+            "where s.user.id = :userId and s.nextStartAt = :previousStartAt")
+    int replaceNextStartAt(@Param("userId") UUID userId,
+                           @Param("previousStartAt") LocalDateTime previousStartAt,
+                           @Param("nextStartAt") LocalDateTime nextStartAt);
+}
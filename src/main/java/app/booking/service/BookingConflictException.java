@@ -0,0 +1,12 @@
+package app.booking.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class BookingConflictException extends IllegalStateException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
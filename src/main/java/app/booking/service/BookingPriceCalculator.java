@@ -0,0 +1,42 @@
+package app.booking.service;
+
+import app.booking.model.Booking;
+import app.promocode.model.PromoCode;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingPriceCalculator {
+
+    public BigDecimal calculateTotalPrice(Booking booking) {
+        return calculateTotalPrice(booking.getRoom().getBasePricePerHour(), booking.getStartAt(), booking.getEndAt());
+    }
+
+    public BigDecimal calculateTotalPrice(BigDecimal basePricePerHour, LocalDateTime startAt, LocalDateTime endAt) {
+        Duration duration = Duration.between(startAt, endAt);
+        long hours = duration.toHours();
+        if (duration.toMinutes() % 60 > 0) {
+            hours += 1;
+        }
+        return basePricePerHour.multiply(BigDecimal.valueOf(hours));
+    }
+
+    public BigDecimal calculateDiscountAmount(Booking booking, BigDecimal totalPrice) {
+        if (booking.getPromoCode() != null && booking.getPromoCode().isActive()) {
+            return calculatePromoDiscount(booking.getPromoCode(), totalPrice);
+        }
+        return BigDecimal.ZERO;
+    }
+
+    public BigDecimal calculatePromoDiscount(PromoCode promoCode, BigDecimal totalPrice) {
+        return calculatePromoDiscount(promoCode.getPercent(), totalPrice);
+    }
+
+    public BigDecimal calculatePromoDiscount(int percent, BigDecimal totalPrice) {
+        BigDecimal discountPercent = BigDecimal.valueOf(percent);
+        return totalPrice.multiply(discountPercent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -3,20 +3,25 @@ package app.booking.service;
 import app.web.dto.BookingCreateRequest;
 import app.web.dto.BookingDetailsResponse;
 import app.web.dto.BookingUpdateRequest;
+import app.booking.jfr.AvailabilityCheckEvent;
+import app.booking.jfr.BookingOperationEvent;
 import app.booking.model.Booking;
 import app.booking.model.BookingStatus;
 import app.booking.repository.BookingRepository;
 import app.promocode.model.PromoCode;
 import app.promocode.service.PromoCodeService;
+import app.promocode.service.PromoCodeUsageService;
 import app.room.model.Room;
 import app.room.service.RoomService;
 import app.user.model.User;
 import app.user.service.UserService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -32,24 +37,56 @@ public class BookingService {
     private final UserService userService;
     private final RoomService roomService;
     private final PromoCodeService promoCodeService;
+    private final PromoCodeUsageService promoCodeUsageService;
+    private final BookingPriceCalculator bookingPriceCalculator;
+    private final UserBookingSummaryService userBookingSummaryService;
+    private final RoomDailyStatsService roomDailyStatsService;
+    private final Counter createConflicts;
+    private final Counter updateConflicts;
 
     public BookingService(
             BookingRepository bookingRepository,
             UserService userService,
             RoomService roomService,
-            PromoCodeService promoCodeService) {
+            PromoCodeService promoCodeService,
+            PromoCodeUsageService promoCodeUsageService,
+            BookingPriceCalculator bookingPriceCalculator,
+            UserBookingSummaryService userBookingSummaryService,
+            RoomDailyStatsService roomDailyStatsService,
+            MeterRegistry meterRegistry) {
         this.bookingRepository = bookingRepository;
         this.userService = userService;
         this.roomService = roomService;
         this.promoCodeService = promoCodeService;
+        this.promoCodeUsageService = promoCodeUsageService;
+        this.bookingPriceCalculator = bookingPriceCalculator;
+        this.userBookingSummaryService = userBookingSummaryService;
+        this.roomDailyStatsService = roomDailyStatsService;
+        this.createConflicts = meterRegistry.counter("bookings.conflicts", "operation", "create");
+        this.updateConflicts = meterRegistry.counter("bookings.conflicts", "operation", "update");
     }
 
+    @Timed("bookings.create")
     @Transactional
     public Booking createBooking(UUID userId, BookingCreateRequest createRequest) {
-        logger.info("Creating booking for user ID: {} and room ID: {}", userId, createRequest.getRoomId());
+        BookingOperationEvent event = BookingOperationEvent.start("create", createRequest.getRoomId(), null);
+        try {
+            Booking booking = create(userId, createRequest);
+            event.booking(booking.getId());
+            return booking;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private Booking create(UUID userId, BookingCreateRequest createRequest) {
+        logger.debug("Creating booking for user ID: {} and room ID: {}", userId, createRequest.getRoomId());
 
         User user = userService.findById(userId);
-        Room room = roomService.findById(createRequest.getRoomId());
+        Room room = roomService.findByIdForBooking(createRequest.getRoomId());
 
         if (!room.isVisible()) {
             logger.warn("Booking failed: room {} is not visible", createRequest.getRoomId());
@@ -63,8 +100,9 @@ public class BookingService {
         }
 
         if (!isRoomAvailable(createRequest.getRoomId(), createRequest.getStartAt(), createRequest.getEndAt())) {
-            logger.warn("Booking failed: room {} is already booked for this time period", createRequest.getRoomId());
-            throw new IllegalStateException("Room is already booked for this time period");
+            logger.warn("Booking failed: room {} is not available for this time period", createRequest.getRoomId());
+            createConflicts.increment();
+            throw new BookingConflictException("Room is not available for this time period");
         }
 
         PromoCode promoCode = null;
@@ -83,6 +121,11 @@ public class BookingService {
                 .build();
 
         Booking savedBooking = bookingRepository.save(booking);
+        if (promoCode != null) {
+            promoCodeUsageService.recordRedemption(savedBooking);
+        }
+        userBookingSummaryService.recordCreation(savedBooking);
+        roomDailyStatsService.recordCreation(savedBooking);
         logger.info("Booking created successfully with ID: {}", savedBooking.getId());
         return savedBooking;
     }
@@ -104,6 +147,13 @@ public class BookingService {
         return buildDetailsResponse(booking);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<BookingDetailsResponse> findBookingDetailsForUser(UUID id, UUID userId) {
+        logger.debug("Getting booking details for ID: {} and user ID: {}", id, userId);
+        return bookingRepository.findByIdAndUserId(id, userId)
+                .map(this::buildDetailsResponse);
+    }
+
     @Transactional(readOnly = true)
     public List<BookingDetailsResponse> getAllBookingsByUserId(UUID userId) {
         logger.debug("Getting all bookings for user ID: {}", userId);
@@ -120,9 +170,24 @@ public class BookingService {
                 .collect(Collectors.toList());
     }
 
+    @Timed("bookings.update")
     @Transactional
     public Booking updateBooking(UUID bookingId, UUID userId, BookingUpdateRequest updateRequest) {
-        logger.info("Updating booking ID: {} for user ID: {}", bookingId, userId);
+        BookingOperationEvent event = BookingOperationEvent.start("update", null, bookingId);
+        try {
+            Booking booking = update(bookingId, userId, updateRequest);
+            event.room(booking.getRoom().getId());
+            return booking;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private Booking update(UUID bookingId, UUID userId, BookingUpdateRequest updateRequest) {
+        logger.debug("Updating booking ID: {} for user ID: {}", bookingId, userId);
         Booking booking = findById(bookingId);
 
         if (!booking.getUser().getId().equals(userId)) {
@@ -142,21 +207,43 @@ public class BookingService {
         }
 
         if (!isRoomAvailable(booking.getRoom().getId(), updateRequest.getStartAt(), updateRequest.getEndAt(), bookingId)) {
-            logger.warn("Update failed: room {} is already booked for this time period", booking.getRoom().getId());
-            throw new IllegalStateException("Room is already booked for this time period");
+            logger.warn("Update failed: room {} is not available for this time period", booking.getRoom().getId());
+            updateConflicts.increment();
+            throw new BookingConflictException("Room is not available for this time period");
         }
 
+        BigDecimal previousTotalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        LocalDateTime previousStartAt = booking.getStartAt();
+        LocalDateTime previousEndAt = booking.getEndAt();
         booking.setStartAt(updateRequest.getStartAt());
         booking.setEndAt(updateRequest.getEndAt());
 
         Booking updatedBooking = bookingRepository.save(booking);
+        if (updatedBooking.getPromoCode() != null) {
+            promoCodeUsageService.recordRepricing(updatedBooking, previousTotalPrice);
+        }
+        userBookingSummaryService.recordRescheduling(updatedBooking, previousStartAt, previousTotalPrice);
+        roomDailyStatsService.recordRescheduling(updatedBooking, previousStartAt, previousEndAt, previousTotalPrice);
         logger.info("Booking updated successfully with ID: {}", bookingId);
         return updatedBooking;
     }
 
+    @Timed("bookings.cancel")
     @Transactional
     public void cancelBooking(UUID bookingId, UUID userId) {
-        logger.info("Canceling booking ID: {} for user ID: {}", bookingId, userId);
+        BookingOperationEvent event = BookingOperationEvent.start("cancel", null, bookingId);
+        try {
+            event.room(cancel(bookingId, userId).getRoom().getId());
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private Booking cancel(UUID bookingId, UUID userId) {
+        logger.debug("Canceling booking ID: {} for user ID: {}", bookingId, userId);
         Booking booking = findById(bookingId);
 
         if (!booking.getUser().getId().equals(userId)) {
@@ -171,27 +258,37 @@ public class BookingService {
 
         booking.setStatus(BookingStatus.CANCELED);
         bookingRepository.save(booking);
+        if (booking.getPromoCode() != null) {
+            promoCodeUsageService.recordCancellation(booking);
+        }
+        userBookingSummaryService.recordCancellation(booking);
+        roomDailyStatsService.recordCancellation(booking);
         logger.info("Booking canceled successfully with ID: {}", bookingId);
+        return booking;
     }
 
     @Transactional(readOnly = true)
     public boolean isRoomAvailable(UUID roomId, LocalDateTime startAt, LocalDateTime endAt) {
-        return !bookingRepository.existsByRoomIdAndStartAtLessThanAndEndAtGreaterThan(
-                roomId, endAt, startAt);
+        return isRoomAvailable(roomId, startAt, endAt, null);
     }
 
     private boolean isRoomAvailable(UUID roomId, LocalDateTime startAt, LocalDateTime endAt, UUID excludeBookingId) {
-        List<Booking> conflictingBookings = bookingRepository.findAllByRoomId(roomId).stream()
-                .filter(booking -> !booking.getId().equals(excludeBookingId))
-                .filter(booking -> booking.getStatus() != BookingStatus.CANCELED)
-                .filter(booking -> booking.getStartAt().isBefore(endAt) && booking.getEndAt().isAfter(startAt))
-                .collect(Collectors.toList());
-        return conflictingBookings.isEmpty();
+        AvailabilityCheckEvent event = AvailabilityCheckEvent.start(roomId, startAt, endAt, excludeBookingId);
+        try {
+            boolean available = !bookingRepository.existsConflict(roomId, startAt, endAt, excludeBookingId, BookingStatus.CANCELED);
+            event.available(available);
+            return available;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
     }
 
     private BookingDetailsResponse buildDetailsResponse(Booking booking) {
-        BigDecimal totalPrice = calculateTotalPrice(booking);
-        BigDecimal discountAmount = calculateDiscountAmount(booking, totalPrice);
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        BigDecimal discountAmount = bookingPriceCalculator.calculateDiscountAmount(booking, totalPrice);
 
         return BookingDetailsResponse.builder()
                 .id(booking.getId())
@@ -209,21 +306,4 @@ public class BookingService {
                 .createdAt(booking.getCreatedAt())
                 .build();
     }
-
-    private BigDecimal calculateTotalPrice(Booking booking) {
-        Duration duration = Duration.between(booking.getStartAt(), booking.getEndAt());
-        long hours = duration.toHours();
-        if (duration.toMinutes() % 60 > 0) {
-            hours += 1;
-        }
-        return booking.getRoom().getBasePricePerHour().multiply(BigDecimal.valueOf(hours));
-    }
-
-    private BigDecimal calculateDiscountAmount(Booking booking, BigDecimal totalPrice) {
-        if (booking.getPromoCode() != null && booking.getPromoCode().isActive()) {
-            BigDecimal discountPercent = BigDecimal.valueOf(booking.getPromoCode().getPercent());
-            return totalPrice.multiply(discountPercent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        }
-        return BigDecimal.ZERO;
-    }
 }
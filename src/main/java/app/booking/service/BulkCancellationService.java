@@ -0,0 +1,115 @@
+package app.booking.service;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.booking.model.BookingsCanceledEvent;
+import app.booking.model.CanceledBooking;
+import app.booking.repository.BookingRepository;
+import app.promocode.service.PromoCodeUsageService;
+import app.room.service.RoomService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class BulkCancellationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkCancellationService.class);
+    private final BookingRepository bookingRepository;
+    private final RoomService roomService;
+    private final PromoCodeUsageService promoCodeUsageService;
+    private final UserBookingSummaryService userBookingSummaryService;
+    private final RoomDailyStatsService roomDailyStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkCancellationService(
+            BookingRepository bookingRepository,
+            RoomService roomService,
+            PromoCodeUsageService promoCodeUsageService,
+            UserBookingSummaryService userBookingSummaryService,
+            RoomDailyStatsService roomDailyStatsService,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.bookings.bulk-cancel-chunk-size:500}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.roomService = roomService;
+        this.promoCodeUsageService = promoCodeUsageService;
+        this.userBookingSummaryService = userBookingSummaryService;
+        this.roomDailyStatsService = roomDailyStatsService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public Stream<CanceledBooking> cancelRoomBookings(UUID roomId, LocalDateTime from, LocalDateTime to, String reason) {
+        logger.info("Bulk canceling bookings for room ID: {} from {} to {}", roomId, from, to);
+
+        if (!from.isBefore(to)) {
+            logger.warn("Bulk cancel failed: invalid time range");
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        roomService.findById(roomId);
+
+        return Stream.iterate(cancelNextChunk(roomId, from, to, reason),
+                        chunk -> !chunk.isEmpty(),
+                        chunk -> chunk.size() < chunkSize ? Collections.emptyList() : cancelNextChunk(roomId, from, to, reason))
+                .flatMap(List::stream);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<CanceledBooking> cancelAll(List<Booking> bookings, String reason) {
+        if (bookings.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        bookingRepository.updateStatusByIdIn(
+                bookings.stream().map(Booking::getId).collect(Collectors.toList()), BookingStatus.CANCELED);
+        bookings.forEach(entityManager::detach);
+        promoCodeUsageService.recordCancellations(bookings);
+        userBookingSummaryService.recordCancellations(bookings);
+        roomDailyStatsService.recordCancellations(bookings);
+
+        List<CanceledBooking> canceled = bookings.stream()
+                .map(booking -> new CanceledBooking(
+                        booking.getId(),
+                        booking.getUser().getId(),
+                        booking.getUser().getUsername(),
+                        booking.getUser().getEmail(),
+                        booking.getRoom().getId(),
+                        booking.getRoom().getName(),
+                        booking.getStartAt(),
+                        booking.getEndAt()))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new BookingsCanceledEvent(canceled, reason));
+        return canceled;
+    }
+
+    private List<CanceledBooking> cancelNextChunk(UUID roomId, LocalDateTime from, LocalDateTime to, String reason) {
+        return transactionTemplate.execute(status -> {
+            List<Booking> bookings = bookingRepository.findAllForUpdateInRoomOverlapping(
+                    roomId, from, to, LocalDateTime.now(), BookingStatus.CANCELED, PageRequest.ofSize(chunkSize));
+            List<CanceledBooking> canceled = cancelAll(bookings, reason);
+            logger.info("Canceled {} bookings for room ID: {}", canceled.size(), roomId);
+            return canceled;
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package app.booking.service;
+
+import app.booking.model.BookingsCanceledEvent;
+import app.booking.model.CanceledBooking;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class CancellationNotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellationNotificationService.class);
+
+    @TransactionalEventListener
+    public void onBookingsCanceled(BookingsCanceledEvent event) {
+        Map<UUID, List<CanceledBooking>> byUser = event.bookings().stream()
+                .collect(Collectors.groupingBy(CanceledBooking::userId, LinkedHashMap::new, Collectors.toList()));
+
+        byUser.values().forEach(bookings -> {
+            CanceledBooking first = bookings.get(0);
+            logger.info("Notifying {} <{}>: {} booking(s) in {} canceled ({}), first starting {}",
+                    first.username(), first.email(), bookings.size(), first.roomName(), event.reason(), first.startAt());
+        });
+    }
+}
@@ -0,0 +1,310 @@
+package app.booking.service;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingSpan;
+import app.booking.model.BookingStatus;
+import app.booking.model.DailyBookingTotals;
+import app.booking.model.RoomBookingTotals;
+import app.booking.model.RoomDailyStats;
+import app.booking.repository.BookingRepository;
+import app.booking.repository.RoomDailyStatsRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.web.dto.DailyOccupancyResponse;
+import app.web.dto.OccupancyDashboardResponse;
+import app.web.dto.RoomOccupancyResponse;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RoomDailyStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomDailyStatsService.class);
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final RoomDailyStatsRepository roomDailyStatsRepository;
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final BookingPriceCalculator bookingPriceCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int reconcileDaysBack;
+    private final int reconcileDaysAhead;
+
+    public RoomDailyStatsService(
+            RoomDailyStatsRepository roomDailyStatsRepository,
+            BookingRepository bookingRepository,
+            RoomRepository roomRepository,
+            BookingPriceCalculator bookingPriceCalculator,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.stats.reconcile-days-back:7}") int reconcileDaysBack,
+            @Value("${app.stats.reconcile-days-ahead:90}") int reconcileDaysAhead) {
+        this.roomDailyStatsRepository = roomDailyStatsRepository;
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.bookingPriceCalculator = bookingPriceCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.reconcileDaysBack = reconcileDaysBack;
+        this.reconcileDaysAhead = reconcileDaysAhead;
+    }
+
+    @Transactional
+    public void recordCreation(Booking booking) {
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        applyChange(booking.getRoom(), booking.getStartAt(), booking.getEndAt(), netRevenue(booking, totalPrice), 1);
+    }
+
+    @Transactional
+    public void recordRescheduling(Booking booking, LocalDateTime previousStartAt, LocalDateTime previousEndAt,
+                                   BigDecimal previousTotalPrice) {
+        applyChange(booking.getRoom(), previousStartAt, previousEndAt, netRevenue(booking, previousTotalPrice), -1);
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        applyChange(booking.getRoom(), booking.getStartAt(), booking.getEndAt(), netRevenue(booking, totalPrice), 1);
+    }
+
+    @Transactional
+    public void recordCancellation(Booking booking) {
+        recordCancellations(List.of(booking));
+    }
+
+    @Transactional
+    public void recordCancellations(List<Booking> bookings) {
+        Map<StatsKey, DayTotals> totals = new TreeMap<>();
+        for (Booking booking : bookings) {
+            BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+            accumulate(totals, booking.getRoom().getId(), booking.getStartAt(), booking.getEndAt(), netRevenue(booking, totalPrice),
+                    booking.getStartAt().toLocalDate(), booking.getEndAt().toLocalDate());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        totals.forEach((key, dayTotals) -> roomDailyStatsRepository.upsert(UUID.randomUUID(), key.roomId(), key.day(),
+                -dayTotals.bookings, -dayTotals.bookedMinutes, dayTotals.revenue.negate(), now));
+    }
+
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        reconcile(today.minusDays(reconcileDaysBack), today.plusDays(reconcileDaysAhead));
+    }
+
+    public void reconcile(LocalDate from, LocalDate to) {
+        logger.info("Reconciling daily room stats from {} to {}", from, to);
+        long startedAt = System.nanoTime();
+
+        Set<StatsKey> mismatched = readOnlyTransactionTemplate.execute(status -> findMismatches(from, to));
+        int corrected = 0;
+        for (StatsKey key : mismatched) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileDay(key)))) {
+                corrected++;
+            }
+        }
+        logger.info("Reconciled daily room stats from {} to {}: {} rows rechecked, {} corrected in {} ms",
+                from, to, mismatched.size(), corrected, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private Set<StatsKey> findMismatches(LocalDate from, LocalDate to) {
+        Map<StatsKey, DayTotals> expected = new HashMap<>();
+        try (Stream<BookingSpan> spans = bookingRepository.streamSpansOverlapping(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), BookingStatus.CANCELED)) {
+            spans.forEach(span -> accumulate(expected, span, from, to));
+        }
+
+        Set<StatsKey> mismatched = new HashSet<>();
+        Set<StatsKey> seen = new HashSet<>();
+        for (RoomDailyStats stats : roomDailyStatsRepository.findAllByDayBetween(from, to)) {
+            StatsKey key = new StatsKey(stats.getRoom().getId(), stats.getDay());
+            seen.add(key);
+            if (!expected.getOrDefault(key, DayTotals.EMPTY).matches(stats)) {
+                mismatched.add(key);
+            }
+        }
+        expected.keySet().stream()
+                .filter(key -> !seen.contains(key))
+                .forEach(mismatched::add);
+        return mismatched;
+    }
+
+    private boolean reconcileDay(StatsKey key) {
+        LocalDateTime now = LocalDateTime.now();
+        roomDailyStatsRepository.upsert(UUID.randomUUID(), key.roomId(), key.day(), 0, 0, BigDecimal.ZERO, now);
+        RoomDailyStats stored = roomDailyStatsRepository.findByRoomIdAndDayForUpdate(key.roomId(), key.day())
+                .orElseThrow(() -> new IllegalStateException("Daily stats row missing for room ID: " + key.roomId() + " on " + key.day()));
+
+        Map<StatsKey, DayTotals> expected = new HashMap<>();
+        bookingRepository.findSpansOverlappingRoom(key.roomId(), key.day().atStartOfDay(), key.day().plusDays(1).atStartOfDay(),
+                        BookingStatus.CANCELED)
+                .forEach(span -> accumulate(expected, span, key.day(), key.day()));
+        DayTotals totals = expected.getOrDefault(key, DayTotals.EMPTY);
+        if (totals.matches(stored)) {
+            return false;
+        }
+
+        roomDailyStatsRepository.increment(key.roomId(), key.day(), totals.bookings - stored.getBookings(),
+                totals.bookedMinutes - stored.getBookedMinutes(), totals.revenue.subtract(stored.getRevenue()), now);
+        logger.debug("Corrected daily stats for room ID: {} on {}", key.roomId(), key.day());
+        return true;
+    }
+
+    private void accumulate(Map<StatsKey, DayTotals> totals, BookingSpan span, LocalDate from, LocalDate to) {
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(
+                span.getBasePricePerHour(), span.getStartAt(), span.getEndAt());
+        BigDecimal revenue = span.getPromoPercent() != null
+                ? totalPrice.subtract(bookingPriceCalculator.calculatePromoDiscount(span.getPromoPercent(), totalPrice))
+                : totalPrice;
+        accumulate(totals, span.getRoomId(), span.getStartAt(), span.getEndAt(), revenue, from, to);
+    }
+
+    private static void accumulate(Map<StatsKey, DayTotals> totals, UUID roomId, LocalDateTime startAt, LocalDateTime endAt,
+                                   BigDecimal revenue, LocalDate from, LocalDate to) {
+        forEachDay(startAt, endAt, (day, minutes) -> {
+            if (day.isBefore(from) || day.isAfter(to)) {
+                return;
+            }
+            DayTotals dayTotals = totals.computeIfAbsent(new StatsKey(roomId, day), key -> new DayTotals());
+            dayTotals.bookedMinutes += minutes;
+            if (day.equals(startAt.toLocalDate())) {
+                dayTotals.bookings++;
+                dayTotals.revenue = dayTotals.revenue.add(revenue);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public OccupancyDashboardResponse getDashboard(LocalDate from, LocalDate to, UUID roomId) {
+        logger.debug("Getting occupancy dashboard from {} to {} for room ID: {}", from, to, roomId);
+        long roomCount = roomId != null ? 1 : Math.max(1, roomRepository.countByDeletedAtIsNull());
+        List<DailyBookingTotals> dailyTotals = roomId != null
+                ? roomDailyStatsRepository.findDailyByRoom(roomId, from, to)
+                : roomDailyStatsRepository.sumByDay(from, to);
+        Map<LocalDate, DailyBookingTotals> totalsByDay = dailyTotals.stream()
+                .collect(Collectors.toMap(DailyBookingTotals::getDay, Function.identity()));
+
+        List<DailyOccupancyResponse> days = new ArrayList<>();
+        long totalBookings = 0;
+        long totalMinutes = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            DailyBookingTotals totals = totalsByDay.get(day);
+            long bookings = totals != null ? totals.getBookings() : 0;
+            long minutes = totals != null ? totals.getBookedMinutes() : 0;
+            BigDecimal revenue = totals != null ? totals.getRevenue() : BigDecimal.ZERO;
+            days.add(DailyOccupancyResponse.builder()
+                    .day(day)
+                    .bookings(bookings)
+                    .revenue(revenue)
+                    .occupancyPercent(occupancyPercent(minutes, roomCount, 1))
+                    .build());
+            totalBookings += bookings;
+            totalMinutes += minutes;
+            totalRevenue = totalRevenue.add(revenue);
+        }
+
+        long dayCount = ChronoUnit.DAYS.between(from, to) + 1;
+        List<RoomOccupancyResponse> rooms = roomDailyStatsRepository.sumByRoom(from, to).stream()
+                .map(totals -> RoomOccupancyResponse.builder()
+                        .roomId(totals.getRoomId())
+                        .roomName(totals.getRoomName())
+                        .bookings(totals.getBookings())
+                        .revenue(totals.getRevenue())
+                        .occupancyPercent(occupancyPercent(totals.getBookedMinutes(), 1, dayCount))
+                        .build())
+                .collect(Collectors.toList());
+
+        return OccupancyDashboardResponse.builder()
+                .from(from)
+                .to(to)
+                .roomId(roomId)
+                .totalBookings(totalBookings)
+                .totalRevenue(totalRevenue)
+                .occupancyPercent(occupancyPercent(totalMinutes, roomCount, dayCount))
+                .days(days)
+                .rooms(rooms)
+                .build();
+    }
+
+    private void applyChange(Room room, LocalDateTime startAt, LocalDateTime endAt, BigDecimal revenue, int sign) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate startDay = startAt.toLocalDate();
+        forEachDay(startAt, endAt, (day, minutes) -> {
+            boolean firstDay = day.equals(startDay);
+            long bookings = firstDay ? sign : 0;
+            BigDecimal dayRevenue = firstDay ? (sign > 0 ? revenue : revenue.negate()) : BigDecimal.ZERO;
+            long dayMinutes = sign * minutes;
+
+            roomDailyStatsRepository.upsert(UUID.randomUUID(), room.getId(), day, bookings, dayMinutes, dayRevenue, now);
+        });
+    }
+
+    private BigDecimal netRevenue(Booking booking, BigDecimal totalPrice) {
+        if (booking.getPromoCode() == null) {
+            return totalPrice;
+        }
+        return totalPrice.subtract(bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), totalPrice));
+    }
+
+    private static void forEachDay(LocalDateTime startAt, LocalDateTime endAt, DayConsumer consumer) {
+        LocalDateTime cursor = startAt;
+        while (cursor.isBefore(endAt)) {
+            LocalDateTime nextDay = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime sliceEnd = nextDay.isBefore(endAt) ? nextDay : endAt;
+            consumer.accept(cursor.toLocalDate(), Duration.between(cursor, sliceEnd).toMinutes());
+            cursor = sliceEnd;
+        }
+    }
+
+    private static double occupancyPercent(long bookedMinutes, long rooms, long days) {
+        return Math.round(bookedMinutes * 1000.0 / (rooms * days * MINUTES_PER_DAY)) / 10.0;
+    }
+
+    private interface DayConsumer {
+        void accept(LocalDate day, long minutes);
+    }
+
+    private record StatsKey(UUID roomId, LocalDate day) implements Comparable<StatsKey> {
+
+        @Override
+        public int compareTo(StatsKey other) {
+            int byRoom = roomId.compareTo(other.roomId);
+            return byRoom != 0 ? byRoom : day.compareTo(other.day);
+        }
+    }
+
+    private static final class DayTotals {
+
+        private static final DayTotals EMPTY = new DayTotals();
+
+        private long bookings;
+        private long bookedMinutes;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private boolean matches(RoomDailyStats stored) {
+            return bookings == stored.getBookings()
+                    && bookedMinutes == stored.getBookedMinutes()
+                    && revenue.compareTo(stored.getRevenue()) == 0;
+        }
+    }
+}
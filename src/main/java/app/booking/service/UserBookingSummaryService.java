@@ -0,0 +1,231 @@
+package app.booking.service;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.booking.model.UserBookingSummary;
+import app.booking.repository.BookingRepository;
+import app.booking.repository.UserBookingSummaryRepository;
+import app.user.model.User;
+import app.web.dto.UserBookingSummaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class UserBookingSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBookingSummaryService.class);
+    private final UserBookingSummaryRepository userBookingSummaryRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingPriceCalculator bookingPriceCalculator;
+    private final EntityManager entityManager;
+    private final Counter summaryHits;
+    private final Counter summaryMisses;
+
+    public UserBookingSummaryService(
+            UserBookingSummaryRepository userBookingSummaryRepository,
+            BookingRepository bookingRepository,
+            BookingPriceCalculator bookingPriceCalculator,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry) {
+        this.userBookingSummaryRepository = userBookingSummaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingPriceCalculator = bookingPriceCalculator;
+        this.entityManager = entityManager;
+        this.summaryHits = meterRegistry.counter("cache.gets", "cache", "user-booking-summary", "result", "hit");
+        this.summaryMisses = meterRegistry.counter("cache.gets", "cache", "user-booking-summary", "result", "miss");
+    }
+
+    @Transactional
+    public void recordCreation(Booking booking) {
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        BigDecimal savings = calculateSavings(booking, totalPrice);
+        boolean upcoming = booking.getStartAt().isAfter(now);
+
+        if (!applyChange(booking.getUser(), 1, upcoming ? 1 : 0, totalPrice.subtract(savings), savings, now)) {
+            return;
+        }
+        if (upcoming) {
+            userBookingSummaryRepository.lowerNextStartAt(booking.getUser().getId(), booking.getStartAt());
+        }
+    }
+
+    @Transactional
+    public void recordRescheduling(Booking booking, LocalDateTime previousStartAt, BigDecimal previousTotalPrice) {
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        BigDecimal savingsDelta = calculateSavings(booking, totalPrice).subtract(calculateSavings(booking, previousTotalPrice));
+        BigDecimal spentDelta = totalPrice.subtract(previousTotalPrice).subtract(savingsDelta);
+        boolean upcoming = booking.getStartAt().isAfter(now);
+        long upcomingDelta = (upcoming ? 1 : 0) - (previousStartAt.isAfter(now) ? 1 : 0);
+
+        if (!applyChange(booking.getUser(), 0, upcomingDelta, spentDelta, savingsDelta, now)) {
+            return;
+        }
+        if (previousStartAt.isAfter(now)) {
+            replaceNextStartAt(booking.getUser().getId(), previousStartAt, now);
+        }
+        if (upcoming) {
+            userBookingSummaryRepository.lowerNextStartAt(booking.getUser().getId(), booking.getStartAt());
+        }
+    }
+
+    @Transactional
+    public void recordCancellation(Booking booking) {
+        recordCancellations(List.of(booking));
+    }
+
+    @Transactional
+    public void recordCancellations(List<Booking> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, SummaryDelta> deltas = new TreeMap<>();
+        for (Booking booking : bookings) {
+            BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+            BigDecimal savings = calculateSavings(booking, totalPrice);
+            SummaryDelta delta = deltas.computeIfAbsent(booking.getUser().getId(), id -> new SummaryDelta(booking.getUser()));
+            delta.bookings++;
+            delta.spent = delta.spent.add(totalPrice.subtract(savings));
+            delta.savings = delta.savings.add(savings);
+            if (booking.getStartAt().isAfter(now)) {
+                delta.upcoming++;
+                if (delta.earliestUpcomingStartAt == null || booking.getStartAt().isBefore(delta.earliestUpcomingStartAt)) {
+                    delta.earliestUpcomingStartAt = booking.getStartAt();
+                }
+            }
+        }
+
+        deltas.forEach((userId, delta) -> {
+            if (applyChange(delta.user, -delta.bookings, -delta.upcoming, delta.spent.negate(), delta.savings.negate(), now)
+                    && delta.earliestUpcomingStartAt != null) {
+                replaceNextStartAt(userId, delta.earliestUpcomingStartAt, now);
+            }
+        });
+    }
+
+    @Transactional
+    public UserBookingSummary rebuildSummary(User user) {
+        logger.info("Rebuilding booking summary for user ID: {}", user.getId());
+        LocalDateTime now = LocalDateTime.now();
+        userBookingSummaryRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), now);
+        UserBookingSummary summary = userBookingSummaryRepository.findByUserIdForUpdate(user.getId())
+                .orElseThrow(() -> new IllegalStateException("Booking summary missing for user ID: " + user.getId()));
+        summary.setTotalBookings(0);
+        summary.setUpcomingBookings(0);
+        summary.setTotalSpent(BigDecimal.ZERO);
+        summary.setPromoSavings(BigDecimal.ZERO);
+        summary.setNextStartAt(null);
+        summary.setUpdatedAt(now);
+
+        for (Booking booking : bookingRepository.findAllByUserId(user.getId())) {
+            if (booking.getStatus() == BookingStatus.CANCELED) {
+                continue;
+            }
+            BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+            BigDecimal savings = calculateSavings(booking, totalPrice);
+
+            summary.setTotalBookings(summary.getTotalBookings() + 1);
+            summary.setTotalSpent(summary.getTotalSpent().add(totalPrice.subtract(savings)));
+            summary.setPromoSavings(summary.getPromoSavings().add(savings));
+            if (booking.getStartAt().isAfter(now)) {
+                summary.setUpcomingBookings(summary.getUpcomingBookings() + 1);
+                if (summary.getNextStartAt() == null || booking.getStartAt().isBefore(summary.getNextStartAt())) {
+                    summary.setNextStartAt(booking.getStartAt());
+                }
+            }
+        }
+
+        UserBookingSummary savedSummary = userBookingSummaryRepository.save(summary);
+        logger.info("Booking summary rebuilt for user ID: {} ({} bookings)", user.getId(), summary.getTotalBookings());
+        return savedSummary;
+    }
+
+    @Transactional
+    public UserBookingSummaryResponse getSummary(UUID userId) {
+        logger.debug("Getting booking summary for user ID: {}", userId);
+        LocalDateTime now = LocalDateTime.now();
+        UserBookingSummary summary = userBookingSummaryRepository.findByUserId(userId).orElse(null);
+        if (summary != null) {
+            summaryHits.increment();
+        } else {
+            summaryMisses.increment();
+            summary = rebuildSummary(entityManager.getReference(User.class, userId));
+        }
+
+        if (summary.getNextStartAt() != null && !summary.getNextStartAt().isAfter(now)) {
+            refreshUpcoming(summary, now);
+        }
+
+        return UserBookingSummaryResponse.builder()
+                .totalBookings(summary.getTotalBookings())
+                .upcomingBookings(summary.getUpcomingBookings())
+                .totalSpent(summary.getTotalSpent())
+                .promoSavings(summary.getPromoSavings())
+                .nextStartAt(summary.getNextStartAt())
+                .build();
+    }
+
+    private void refreshUpcoming(UserBookingSummary summary, LocalDateTime now) {
+        entityManager.refresh(summary, LockModeType.PESSIMISTIC_WRITE);
+        if (summary.getNextStartAt() == null || summary.getNextStartAt().isAfter(now)) {
+            return;
+        }
+
+        UUID userId = summary.getUser().getId();
+        summary.setUpcomingBookings(bookingRepository.countByUserIdAndStatusNotAndStartAtAfter(
+                userId, BookingStatus.CANCELED, now));
+        summary.setNextStartAt(findNextStartAt(userId, now));
+        summary.setUpdatedAt(now);
+        logger.debug("Refreshed upcoming bookings for user ID: {} ({} upcoming)", userId, summary.getUpcomingBookings());
+    }
+
+    private void replaceNextStartAt(UUID userId, LocalDateTime previousStartAt, LocalDateTime now) {
+        userBookingSummaryRepository.replaceNextStartAt(userId, previousStartAt, findNextStartAt(userId, now));
+    }
+
+    private LocalDateTime findNextStartAt(UUID userId, LocalDateTime now) {
+        return bookingRepository.findFirstByUserIdAndStatusNotAndStartAtAfterOrderByStartAtAsc(userId, BookingStatus.CANCELED, now)
+                .map(Booking::getStartAt)
+                .orElse(null);
+    }
+
+    private boolean applyChange(User user, long bookings, long upcoming, BigDecimal spent, BigDecimal savings, LocalDateTime now) {
+        if (userBookingSummaryRepository.increment(user.getId(), bookings, upcoming, spent, savings, now) == 0) {
+            rebuildSummary(user);
+            return false;
+        }
+        return true;
+    }
+
+    private BigDecimal calculateSavings(Booking booking, BigDecimal totalPrice) {
+        if (booking.getPromoCode() == null) {
+            return BigDecimal.ZERO;
+        }
+        return bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), totalPrice);
+    }
+
+    private static final class SummaryDelta {
+
+        private final User user;
+        private long bookings;
+        private long upcoming;
+        private BigDecimal spent = BigDecimal.ZERO;
+        private BigDecimal savings = BigDecimal.ZERO;
+        private LocalDateTime earliestUpcomingStartAt;
+
+        private SummaryDelta(User user) {
+            this.user = user;
+        }
+    }
+}
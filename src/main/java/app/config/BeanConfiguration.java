@@ -1,14 +1,20 @@
 package app.config;
 
+import app.user.service.PasswordHashingService;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class BeanConfiguration {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingService passwordEncoder(
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.security.password.hashing-threads:0}") int hashingThreads,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password.timeout:5s}") Duration timeout) {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingService(bcryptStrength, threads, queueCapacity, timeout);
     }
 }
@@ -2,6 +2,7 @@ package app.config;
 
 import app.room.model.Room;
 import app.room.repository.RoomRepository;
+import app.room.service.RoomCatalogCache;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.model.UserStatus;
@@ -16,6 +17,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
@@ -26,8 +29,10 @@ public class DataInitializer {
     private record RoomData(String name, String location, int capacity, BigDecimal price, String description) {}
 
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CommandLineRunner initializeData(UserRepository userRepository,
                                              RoomRepository roomRepository,
+                                             RoomCatalogCache roomCatalogCache,
                                              PasswordEncoder passwordEncoder) {
         return args -> {
             if (userRepository.count() == 0) {
@@ -70,6 +75,7 @@ public class DataInitializer {
                         .collect(Collectors.toList());
                 
                 roomRepository.saveAll(rooms);
+                roomCatalogCache.markChanged();
                 logger.info("Sample rooms initialization completed. Created {} rooms.", rooms.size());
             }
         };
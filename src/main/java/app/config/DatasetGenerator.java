@@ -0,0 +1,503 @@
+package app.config;
+
+import app.booking.service.BookingPriceCalculator;
+import app.room.service.RoomCatalogCache;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("dataset")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final String ROOM_PREFIX = "Generated Room ";
+    private static final int FIRST_HOUR = 7;
+    private static final double[] HOUR_WEIGHTS = {1, 3, 6, 8, 8, 6, 5, 7, 8, 7, 5, 3, 2, 1, 1, 0.5};
+    private static final double[] WEEKDAY_FACTORS = {1.15, 1.2, 1.2, 1.15, 1.0, 0.6, 0.5};
+    private static final int MAX_DAILY_BOOKINGS = 10;
+    private static final int ROOMS_PER_TASK = 50;
+    private static final int USERS_PER_TASK = 50_000;
+    private static final int PROMO_VALID_DAYS = 60;
+    private static final long ROOM_STREAM = 1;
+    private static final long USER_STREAM = 2;
+    private static final long PROMO_STREAM = 3;
+    private static final long BOOKING_STREAM = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final BookingPriceCalculator bookingPriceCalculator;
+    private final RoomCatalogCache roomCatalogCache;
+    private final long seed;
+    private final int roomCount;
+    private final int userCount;
+    private final long bookingCount;
+    private final int promoCodeCount;
+    private final double hotRoomShare;
+    private final double hotRoomWeight;
+    private final double heavyUserShare;
+    private final double heavyUserBookings;
+    private final double promoShare;
+    private final double cancelShare;
+    private final int daysBack;
+    private final int daysAhead;
+    private final int threads;
+    private final int batchSize;
+    private final String anchorDate;
+    private final String password;
+    private final Calendar jdbcCalendar;
+
+    public DatasetGenerator(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            BookingPriceCalculator bookingPriceCalculator,
+            RoomCatalogCache roomCatalogCache,
+            @Value("${app.dataset.seed:42}") long seed,
+            @Value("${app.dataset.rooms:10000}") int roomCount,
+            @Value("${app.dataset.users:1000000}") int userCount,
+            @Value("${app.dataset.bookings:20000000}") long bookingCount,
+            @Value("${app.dataset.promo-codes:200}") int promoCodeCount,
+            @Value("${app.dataset.hot-room-share:0.05}") double hotRoomShare,
+            @Value("${app.dataset.hot-room-weight:3}") double hotRoomWeight,
+            @Value("${app.dataset.heavy-user-share:0.02}") double heavyUserShare,
+            @Value("${app.dataset.heavy-user-bookings:0.3}") double heavyUserBookings,
+            @Value("${app.dataset.promo-share:0.08}") double promoShare,
+            @Value("${app.dataset.cancel-share:0.12}") double cancelShare,
+            @Value("${app.dataset.days-back:730}") int daysBack,
+            @Value("${app.dataset.days-ahead:90}") int daysAhead,
+            @Value("${app.dataset.threads:0}") int threads,
+            @Value("${app.dataset.batch-size:5000}") int batchSize,
+            @Value("${app.dataset.anchor-date:}") String anchorDate,
+            @Value("${app.dataset.password:password123}") String password,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.bookingPriceCalculator = bookingPriceCalculator;
+        this.roomCatalogCache = roomCatalogCache;
+        this.seed = seed;
+        this.roomCount = roomCount;
+        this.userCount = userCount;
+        this.bookingCount = bookingCount;
+        this.promoCodeCount = promoCodeCount;
+        this.hotRoomShare = hotRoomShare;
+        this.hotRoomWeight = hotRoomWeight;
+        this.heavyUserShare = heavyUserShare;
+        this.heavyUserBookings = heavyUserBookings;
+        this.promoShare = promoShare;
+        this.cancelShare = cancelShare;
+        this.daysBack = daysBack;
+        this.daysAhead = daysAhead;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.anchorDate = anchorDate;
+        this.password = password;
+        this.jdbcCalendar = jdbcTimeZone.isBlank() ? null : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from room where name = ?", Integer.class, roomName(0));
+        if (existing != null && existing > 0) {
+            logger.info("Generated dataset already present, skipping generation");
+            return;
+        }
+
+        int dayCount = daysBack + daysAhead;
+        long maxBookings = (long) roomCount * dayCount * MAX_DAILY_BOOKINGS / 2;
+        if (roomCount < 1 || userCount < 1 || dayCount < 1 || bookingCount > maxBookings) {
+            throw new IllegalArgumentException("Cannot fit " + bookingCount + " bookings into " + roomCount + " rooms over " + dayCount
+                    + " days (at most " + maxBookings + ")");
+        }
+
+        LocalDate anchor = anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate);
+        Dataset dataset = new Dataset(anchor.minusDays(daysBack), dayCount, anchor.atStartOfDay());
+        logger.info("Generating dataset with seed {}: {} rooms, {} users, {} bookings, {} promo codes on {} threads",
+                seed, roomCount, userCount, bookingCount, promoCodeCount, threads);
+
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            insertRooms(dataset);
+            roomCatalogCache.markChanged();
+            insertPromoCodes(dataset);
+            insertUsers(dataset, executor);
+            insertBookings(dataset, executor);
+            insertPromoCodeUsage(dataset);
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Dataset generated in {} s", (System.nanoTime() - startedAt) / 1_000_000_000);
+    }
+
+    private void insertRooms(Dataset dataset) {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = random(ROOM_STREAM, 0);
+        double totalWeight = 0;
+        try (BatchWriter rooms = new BatchWriter("insert into room (id, name, location, capacity, base_price_per_hour, description, visible, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < roomCount; i++) {
+                int capacity = 2 + (int) Math.min(60, Math.abs(random.nextGaussian()) * 12);
+                dataset.prices[i] = BigDecimal.valueOf(2000 + capacity * 300L + random.nextInt(40) * 50L, 2);
+                dataset.weights[i] = random.nextDouble() < hotRoomShare ? hotRoomWeight : Math.exp(random.nextGaussian() * 0.5);
+                totalWeight += dataset.weights[i];
+                rooms.add(uuid(ROOM_STREAM, i), roomName(i), "Building " + (char) ('A' + i % 26) + " - Floor " + (1 + i / 26 % 20),
+                        capacity, dataset.prices[i], "Meeting room for up to " + capacity + " people with a display and whiteboard.",
+                        random.nextInt(100) < 97, dataset.firstDay.minusDays(30 + random.nextInt(365)).atTime(9, 0));
+            }
+        }
+        for (int i = 0; i < roomCount; i++) {
+            dataset.weights[i] = dataset.weights[i] * roomCount / totalWeight;
+        }
+        logger.info("Inserted {} rooms in {} ms", roomCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void insertPromoCodes(Dataset dataset) {
+        SplittableRandom random = random(PROMO_STREAM, 0);
+        try (BatchWriter promoCodes = new BatchWriter("insert into promo_code (id, code, percent, valid_from, valid_to, active, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < promoCodeCount; i++) {
+                dataset.promoStartDays[i] = (int) ((long) i * dataset.dayCount / promoCodeCount) - PROMO_VALID_DAYS / 2;
+                dataset.promoPercents[i] = 5 * (1 + random.nextInt(10));
+                LocalDateTime validFrom = dataset.firstDay.plusDays(dataset.promoStartDays[i]).atStartOfDay();
+                promoCodes.add(uuid(PROMO_STREAM, i), String.format("GEN%04d-%d", i, dataset.promoPercents[i]), dataset.promoPercents[i],
+                        validFrom, validFrom.plusDays(PROMO_VALID_DAYS), random.nextInt(10) > 0, validFrom.minusDays(7));
+            }
+        }
+        logger.info("Inserted {} promo codes", promoCodeCount);
+    }
+
+    private void insertUsers(Dataset dataset, ExecutorService executor) throws Exception {
+        long startedAt = System.nanoTime();
+        String hashedPassword = passwordEncoder.encode(password);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int from = 0; from < userCount; from += USERS_PER_TASK) {
+            int start = from;
+            int end = Math.min(userCount, from + USERS_PER_TASK);
+            tasks.add(executor.submit(() -> {
+                SplittableRandom random = random(USER_STREAM, start);
+                try (BatchWriter users = new BatchWriter("insert into `user` (id, username, email, password, role, status, created_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)")) {
+                    for (int i = start; i < end; i++) {
+                        users.add(uuid(USER_STREAM, i), String.format("guest%07d", i), String.format("guest%07d@example.com", i),
+                                hashedPassword, "USER", random.nextInt(200) > 0 ? "ACTIVE" : "BLOCKED",
+                                dataset.firstDay.minusDays(random.nextInt(365)).atTime(random.nextInt(24), random.nextInt(60)));
+                    }
+                }
+            }));
+        }
+        awaitAll(tasks);
+        logger.info("Inserted {} users in {} ms", userCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void insertBookings(Dataset dataset, ExecutorService executor) throws Exception {
+        long startedAt = System.nanoTime();
+        double weekdayTotal = 0;
+        for (int day = 0; day < dataset.dayCount; day++) {
+            weekdayTotal += weekdayFactor(dataset.firstDay.plusDays(day));
+        }
+        double perWeekdayUnit = (double) bookingCount / roomCount / weekdayTotal;
+
+        AtomicLong written = new AtomicLong();
+        AtomicInteger completed = new AtomicInteger();
+        int taskCount = (roomCount + ROOMS_PER_TASK - 1) / ROOMS_PER_TASK;
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int from = 0; from < roomCount; from += ROOMS_PER_TASK) {
+            int start = from;
+            int end = Math.min(roomCount, from + ROOMS_PER_TASK);
+            tasks.add(executor.submit(() -> {
+                for (int room = start; room < end; room++) {
+                    written.addAndGet(generateRoomBookings(dataset, room, perWeekdayUnit * dataset.weights[room]));
+                }
+                int done = completed.incrementAndGet();
+                if (done % Math.max(1, taskCount / 20) == 0) {
+                    logger.info("Generated bookings for {}/{} rooms ({} bookings)",
+                            Math.min(roomCount, done * ROOMS_PER_TASK), roomCount, written.get());
+                }
+            }));
+        }
+        awaitAll(tasks);
+        long seconds = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000_000);
+        logger.info("Inserted {} bookings (target {}) in {} s, {} rows/s", written.get(), bookingCount, seconds, written.get() / seconds);
+    }
+
+    private long generateRoomBookings(Dataset dataset, int room, double perWeekdayUnit) {
+        SplittableRandom random = random(BOOKING_STREAM, room);
+        byte[] roomId = uuid(ROOM_STREAM, room);
+        BigDecimal price = dataset.prices[room];
+        Map<Integer, long[]> promoUsage = new TreeMap<>();
+        long count = 0;
+
+        try (BatchWriter bookings = new BatchWriter("insert into booking (id, user_id, room_id, promocode_id, start_at, end_at, status, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchWriter stats = new BatchWriter("insert into room_daily_stats (id, room_id, stats_day, bookings, booked_minutes, revenue, updated_at) " +
+                     "values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int day = 0; day < dataset.dayCount; day++) {
+                LocalDate date = dataset.firstDay.plusDays(day);
+                double expected = perWeekdayUnit * weekdayFactor(date);
+                int dailyBookings = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+                int[] startHours = pickStartHours(random, Math.min(MAX_DAILY_BOOKINGS, dailyBookings));
+
+                long activeBookings = 0;
+                long bookedMinutes = 0;
+                BigDecimal revenue = BigDecimal.ZERO;
+                for (int i = 0; i < startHours.length; i++) {
+                    int nextStart = i + 1 < startHours.length ? startHours[i + 1] : FIRST_HOUR + HOUR_WEIGHTS.length;
+                    int hours = Math.min(nextStart - startHours[i], durationHours(random));
+                    LocalDateTime startAt = date.atTime(startHours[i], 0);
+                    LocalDateTime endAt = startAt.plusHours(hours);
+                    LocalDateTime createdAt = createdAt(random, startAt, dataset.now);
+                    String status = status(random, startAt.isBefore(dataset.now));
+                    int promo = random.nextDouble() < promoShare ? pickPromoCode(dataset, random, createdAt) : -1;
+                    long userIndex = random.nextDouble() < heavyUserBookings
+                            ? random.nextLong(Math.max(1, (long) (userCount * heavyUserShare)))
+                            : random.nextLong(userCount);
+
+                    bookings.add(randomUuid(random), uuid(USER_STREAM, userIndex), roomId, promo >= 0 ? uuid(PROMO_STREAM, promo) : null,
+                            startAt, endAt, status, createdAt);
+                    count++;
+                    if (status.equals("CANCELED")) {
+                        continue;
+                    }
+
+                    BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(price, startAt, endAt);
+                    BigDecimal discount = promo >= 0
+                            ? bookingPriceCalculator.calculatePromoDiscount(dataset.promoPercents[promo], totalPrice)
+                            : BigDecimal.ZERO;
+                    activeBookings++;
+                    bookedMinutes += hours * 60L;
+                    revenue = revenue.add(totalPrice.subtract(discount));
+                    if (promo >= 0) {
+                        long[] usage = promoUsage.computeIfAbsent(promo, key -> new long[3]);
+                        usage[0]++;
+                        usage[1] += cents(totalPrice);
+                        usage[2] += cents(discount);
+                    }
+                }
+                if (activeBookings > 0) {
+                    stats.add(randomUuid(random), roomId, date, activeBookings, bookedMinutes, revenue, dataset.now);
+                }
+            }
+        }
+
+        if (!promoUsage.isEmpty()) {
+            try (BatchWriter roomUsage = new BatchWriter("insert into promo_code_room_usage (id, promocode_id, room_id, redemptions, gross_revenue, total_discount, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?)")) {
+                for (Map.Entry<Integer, long[]> entry : promoUsage.entrySet()) {
+                    long[] usage = entry.getValue();
+                    roomUsage.add(randomUuid(random), uuid(PROMO_STREAM, entry.getKey()), roomId, usage[0],
+                            BigDecimal.valueOf(usage[1], 2), BigDecimal.valueOf(usage[2], 2), dataset.now);
+                    int offset = entry.getKey() * 3;
+                    dataset.promoTotals.addAndGet(offset, usage[0]);
+                    dataset.promoTotals.addAndGet(offset + 1, usage[1]);
+                    dataset.promoTotals.addAndGet(offset + 2, usage[2]);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void insertPromoCodeUsage(Dataset dataset) {
+        SplittableRandom random = random(PROMO_STREAM, 1);
+        try (BatchWriter usage = new BatchWriter("insert into promo_code_usage (id, promocode_id, redemptions, gross_revenue, total_discount, updated_at) " +
+                "values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < promoCodeCount; i++) {
+                usage.add(randomUuid(random), uuid(PROMO_STREAM, i), dataset.promoTotals.get(i * 3),
+                        BigDecimal.valueOf(dataset.promoTotals.get(i * 3 + 1), 2),
+                        BigDecimal.valueOf(dataset.promoTotals.get(i * 3 + 2), 2), dataset.now);
+            }
+        }
+        logger.info("Inserted usage rollups for {} promo codes", promoCodeCount);
+    }
+
+    private static int[] pickStartHours(SplittableRandom random, int count) {
+        double[] weights = HOUR_WEIGHTS.clone();
+        double remaining = Arrays.stream(weights).sum();
+        int[] hours = new int[count];
+        for (int i = 0; i < count; i++) {
+            double target = random.nextDouble() * remaining;
+            int slot = 0;
+            while (slot < weights.length - 1 && (target -= weights[slot]) >= 0) {
+                slot++;
+            }
+            while (weights[slot] == 0) {
+                slot = (slot + 1) % weights.length;
+            }
+            remaining -= weights[slot];
+            weights[slot] = 0;
+            hours[i] = FIRST_HOUR + slot;
+        }
+        Arrays.sort(hours);
+        return hours;
+    }
+
+    private static int durationHours(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        return roll < 6 ? 1 : roll < 9 ? 2 : 3;
+    }
+
+    private static LocalDateTime createdAt(SplittableRandom random, LocalDateTime startAt, LocalDateTime now) {
+        long leadMinutes = (long) (-Math.log(1 - random.nextDouble()) * 10 * 24 * 60);
+        LocalDateTime createdAt = startAt.minusMinutes(Math.min(leadMinutes, 90L * 24 * 60) + 30);
+        return createdAt.isBefore(now) ? createdAt : now.minusMinutes(1 + random.nextInt(30 * 24 * 60));
+    }
+
+    private String status(SplittableRandom random, boolean past) {
+        if (random.nextDouble() < cancelShare) {
+            return "CANCELED";
+        }
+        return past || random.nextInt(100) < 85 ? "CONFIRMED" : "PENDING";
+    }
+
+    private static int pickPromoCode(Dataset dataset, SplittableRandom random, LocalDateTime createdAt) {
+        long day = createdAt.toLocalDate().toEpochDay() - dataset.firstDay.toEpochDay();
+        int first = firstStartAfter(dataset.promoStartDays, day - PROMO_VALID_DAYS);
+        int end = firstStartAfter(dataset.promoStartDays, day);
+        return first < end ? first + random.nextInt(end - first) : -1;
+    }
+
+    private static int firstStartAfter(int[] startDays, long day) {
+        int low = 0;
+        int high = startDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (startDays[middle] <= day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static double weekdayFactor(LocalDate date) {
+        return WEEKDAY_FACTORS[date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()];
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static String roomName(int index) {
+        return String.format("%s%05d", ROOM_PREFIX, index + 1);
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(seed ^ mix(stream * 0x9e3779b97f4a7c15L + index)));
+    }
+
+    private byte[] uuid(long stream, long index) {
+        long mostSignificant = mix(seed + mix((stream << 40) ^ index));
+        return uuidBytes(mostSignificant, mix(mostSignificant ^ 0x632be59bd9b4e019L));
+    }
+
+    private static byte[] randomUuid(SplittableRandom random) {
+        return uuidBytes(random.nextLong(), random.nextLong());
+    }
+
+    private static byte[] uuidBytes(long mostSignificant, long leastSignificant) {
+        return ByteBuffer.allocate(16)
+                .putLong((mostSignificant & ~0xf000L) | 0x4000L)
+                .putLong((leastSignificant & 0x3fffffffffffffffL) | 0x8000000000000000L)
+                .array();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void awaitAll(List<Future<?>> tasks) throws Exception {
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+    }
+
+    private final class Dataset {
+
+        private final LocalDate firstDay;
+        private final int dayCount;
+        private final LocalDateTime now;
+        private final BigDecimal[] prices = new BigDecimal[roomCount];
+        private final double[] weights = new double[roomCount];
+        private final int[] promoStartDays = new int[promoCodeCount];
+        private final int[] promoPercents = new int[promoCodeCount];
+        private final AtomicLongArray promoTotals = new AtomicLongArray(promoCodeCount * 3);
+
+        private Dataset(LocalDate firstDay, int dayCount, LocalDateTime now) {
+            this.firstDay = firstDay;
+            this.dayCount = dayCount;
+            this.now = now;
+        }
+    }
+
+    private final class BatchWriter implements AutoCloseable {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows, rows.size(), this::bind);
+                rows.clear();
+            }
+        }
+
+        private void bind(PreparedStatement statement, Object[] row) throws SQLException {
+            for (int i = 0; i < row.length; i++) {
+                Object value = row[i];
+                if (value instanceof LocalDateTime dateTime) {
+                    statement.setTimestamp(i + 1, Timestamp.valueOf(dateTime), jdbcCalendar);
+                } else if (value instanceof LocalDate date) {
+                    statement.setDate(i + 1, Date.valueOf(date), jdbcCalendar);
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
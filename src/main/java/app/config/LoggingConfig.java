@@ -0,0 +1,43 @@
+package app.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingConfig {
+
+    private static final String ASYNC_APPENDER = "ASYNC_CONSOLE";
+
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            gauge("logging.async.queue.size", AsyncAppender::getNumberOfElementsInQueue).register(registry);
+            gauge("logging.async.queue.remaining", AsyncAppender::getRemainingCapacity).register(registry);
+        };
+    }
+
+    private static Gauge.Builder<Supplier<Number>> gauge(String name, ToIntFunction<AsyncAppender> value) {
+        return Gauge.builder(name, () -> {
+            AsyncAppender appender = asyncAppender();
+            return appender != null ? value.applyAsInt(appender) : Double.NaN;
+        }).tag("appender", ASYNC_APPENDER);
+    }
+
+    private static AsyncAppender asyncAppender() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+            if (root.getAppender(ASYNC_APPENDER) instanceof AsyncAppender appender) {
+                return appender;
+            }
+        }
+        return null;
+    }
+}
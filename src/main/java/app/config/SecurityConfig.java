@@ -1,9 +1,17 @@
 package app.config;
 
+import app.user.model.AuthenticatedUser;
+import app.user.service.LoginAttemptThrottle;
+import app.user.service.LoginMetrics;
+import app.user.service.PrincipalRefreshRegistry;
 import app.user.service.impl.UserDetailsServiceImpl;
+import app.web.filter.LoginThrottleFilter;
+import app.web.filter.PrincipalRefreshFilter;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,6 +19,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
@@ -21,10 +34,20 @@ public class SecurityConfig {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalRefreshRegistry principalRefreshRegistry;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final LoginMetrics loginMetrics;
 
-    public SecurityConfig(UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(UserDetailsServiceImpl userDetailsService,
+                          PasswordEncoder passwordEncoder,
+                          PrincipalRefreshRegistry principalRefreshRegistry,
+                          LoginAttemptThrottle loginAttemptThrottle,
+                          LoginMetrics loginMetrics) {
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.principalRefreshRegistry = principalRefreshRegistry;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.loginMetrics = loginMetrics;
     }
 
     @Bean
@@ -32,25 +55,43 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        SimpleUrlAuthenticationSuccessHandler successHandler = new SimpleUrlAuthenticationSuccessHandler("/");
+        successHandler.setAlwaysUseDefaultTargetUrl(true);
+        SimpleUrlAuthenticationFailureHandler failureHandler = new SimpleUrlAuthenticationFailureHandler("/login?error=true");
+
         http
-                .authenticationProvider(authenticationProvider())
+                .addFilterAfter(new PrincipalRefreshFilter(principalRefreshRegistry, userDetailsService,
+                        new HttpSessionSecurityContextRepository()), SecurityContextHolderFilter.class)
+                .addFilterBefore(new LoginThrottleFilter(loginAttemptThrottle, loginMetrics), UsernamePasswordAuthenticationFilter.class)
                 .requestCache(cache -> cache
                         .requestCache(new NullRequestCache())
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/", "/login", "/register", "/rooms", "/rooms/{id}", "/css/**", "/js/**", "/images/**").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .requestMatchers("/", "/login", "/register", "/register/check-username", "/rooms", "/rooms/{id}", "/css/**", "/js/**", "/images/**").permitAll()
                         .requestMatchers("/admin/**", "/promocodes/**", "/rooms/create", "/rooms/{id}/edit", "/rooms/{id}/toggle-visibility", "/rooms/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
                         .loginPage("/login")
-                        .defaultSuccessUrl("/", true)
-                        .failureUrl("/login?error=true")
+                        .successHandler((request, response, authentication) -> {
+                            if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+                                principalRefreshRegistry.trackSession(request.getSession(), principal.getId());
+                            }
+                            successHandler.onAuthenticationSuccess(request, response, authentication);
+                        })
+                        .failureHandler((request, response, exception) -> {
+                            if (exception instanceof BadCredentialsException) {
+                                loginAttemptThrottle.recordFailure(request.getParameter("username"), request.getRemoteAddr());
+                            }
+                            failureHandler.onAuthenticationFailure(request, response, exception);
+                        })
                         .permitAll()
                 )
                 .sessionManagement(session -> session
@@ -61,7 +102,7 @@ public class SecurityConfig {
                         .logoutRequestMatcher(new AntPathRequestMatcher("/logout", "POST"))
                         .logoutSuccessUrl("/")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies("SESSION")
                         .permitAll()
                 );
 
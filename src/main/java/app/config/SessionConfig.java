@@ -0,0 +1,72 @@
+package app.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private static final int COMPRESSION_THRESHOLD = 512;
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        SerializingConverter serializer = new SerializingConverter();
+        DeserializingConverter deserializer = new DeserializingConverter(classLoader);
+
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, source -> compress(serializer.convert(source)));
+        conversionService.addConverter(byte[].class, Object.class, source -> deserializer.convert(decompress(source)));
+        return conversionService;
+    }
+
+    private static byte[] compress(byte[] serialized) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.min(serialized.length, COMPRESSION_THRESHOLD) + 1);
+        if (serialized.length < COMPRESSION_THRESHOLD) {
+            output.write(PLAIN);
+            output.writeBytes(serialized);
+            return output.toByteArray();
+        }
+
+        output.write(DEFLATED);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(output)) {
+            deflater.write(serialized);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] stored) {
+        if (stored.length == 0 || stored[0] == PLAIN) {
+            byte[] serialized = new byte[Math.max(stored.length - 1, 0)];
+            System.arraycopy(stored, Math.min(1, stored.length), serialized, 0, serialized.length);
+            return serialized;
+        }
+
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(stored, 1, stored.length - 1))) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
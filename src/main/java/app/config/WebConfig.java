@@ -0,0 +1,49 @@
+package app.config;
+
+import app.diagnostics.service.QueryDiagnosticsService;
+import app.web.filter.CorrelationIdFilter;
+import app.web.filter.RequestTimingFilter;
+import app.web.interceptor.RequestTimingInterceptor;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final boolean enforceQueryBudgets;
+
+    public WebConfig(@Value("${app.diagnostics.query-budget.enforce:false}") boolean enforceQueryBudgets) {
+        this.enforceQueryBudgets = enforceQueryBudgets;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+        FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(new CorrelationIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            @Value("${app.timing.server-timing-header:true}") boolean headerEnabled,
+            @Value("${app.timing.slow-request-threshold:1s}") Duration slowRequestThreshold,
+            @Value("${app.timing.response-buffer-size:64KB}") DataSize responseBufferSize,
+            QueryDiagnosticsService queryDiagnosticsService) {
+        FilterRegistrationBean<RequestTimingFilter> registration = new FilterRegistrationBean<>(
+                new RequestTimingFilter(headerEnabled, slowRequestThreshold, (int) responseBufferSize.toBytes(), queryDiagnosticsService));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor(enforceQueryBudgets));
+    }
+}
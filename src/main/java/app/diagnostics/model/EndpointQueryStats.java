@@ -0,0 +1,48 @@
+package app.diagnostics.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+@Getter
+public class EndpointQueryStats {
+
+    private final String endpoint;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final AtomicInteger maxStatements = new AtomicInteger();
+    private final LongAdder repeatedSelectRequests = new LongAdder();
+    private final LongAdder slowStatementRequests = new LongAdder();
+    private final LongAdder overBudgetRequests = new LongAdder();
+    private volatile int queryBudget = -1;
+    private volatile String repeatedSql;
+    private volatile int repeatedCount;
+    private volatile String slowSql;
+    private volatile long slowNanos;
+
+    public EndpointQueryStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(int requestStatements, int handlerStatements, int queryBudget) {
+        requests.increment();
+        statements.add(requestStatements);
+        maxStatements.accumulateAndGet(requestStatements, Math::max);
+        this.queryBudget = queryBudget;
+        if (queryBudget >= 0 && handlerStatements > queryBudget) {
+            overBudgetRequests.increment();
+        }
+    }
+
+    public void recordRepeatedSelect(String sql, int count) {
+        repeatedSelectRequests.increment();
+        this.repeatedSql = sql;
+        this.repeatedCount = count;
+    }
+
+    public void recordSlowStatement(String sql, long nanos) {
+        slowStatementRequests.increment();
+        this.slowSql = sql;
+        this.slowNanos = nanos;
+    }
+}
@@ -0,0 +1,112 @@
+package app.diagnostics.service;
+
+import app.diagnostics.model.EndpointQueryStats;
+import app.util.RequestTiming;
+import app.web.dto.EndpointQueryResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QueryDiagnosticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryDiagnosticsService.class);
+
+    private final ConcurrentMap<String, EndpointQueryStats> endpoints = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int repeatedSelectThreshold;
+    private final long slowStatementNanos;
+
+    public QueryDiagnosticsService(
+            MeterRegistry meterRegistry,
+            @Value("${app.diagnostics.repeated-select-threshold:5}") int repeatedSelectThreshold,
+            @Value("${app.diagnostics.slow-statement-threshold:200ms}") Duration slowStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+        this.slowStatementNanos = slowStatementThreshold.toNanos();
+    }
+
+    public void record(String method, String uri, RequestTiming timing) {
+        String endpoint = method + " " + uri;
+        EndpointQueryStats stats = endpoints.computeIfAbsent(endpoint, EndpointQueryStats::new);
+        stats.record(timing.dbStatements(), timing.handlerStatements(), timing.getQueryBudget());
+        DistributionSummary.builder("db.statements.per.request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(timing.dbStatements());
+
+        String repeatedSql = null;
+        int repeatedCount = 0;
+        String slowSql = null;
+        long slowNanos = 0;
+        for (Map.Entry<String, RequestTiming.StatementStats> entry : timing.statementStats().entrySet()) {
+            RequestTiming.StatementStats statement = entry.getValue();
+            if (statement.getCount() >= repeatedSelectThreshold && statement.getCount() > repeatedCount && isSelect(entry.getKey())) {
+                repeatedSql = entry.getKey();
+                repeatedCount = statement.getCount();
+            }
+            if (statement.getMaxNanos() >= slowStatementNanos && statement.getMaxNanos() > slowNanos) {
+                slowSql = entry.getKey();
+                slowNanos = statement.getMaxNanos();
+            }
+        }
+
+        if (repeatedSql != null) {
+            logger.debug("Repeated select on {}: {} executions of {}", endpoint, repeatedCount, repeatedSql);
+            stats.recordRepeatedSelect(repeatedSql, repeatedCount);
+            meterRegistry.counter("db.statements.repeated", "method", method, "uri", uri).increment();
+        }
+        if (slowSql != null) {
+            logger.debug("Slow statement on {}: {} ms for {}", endpoint, slowNanos / 1_000_000, slowSql);
+            stats.recordSlowStatement(slowSql, slowNanos);
+            meterRegistry.counter("db.statements.slow", "method", method, "uri", uri).increment();
+        }
+    }
+
+    public List<EndpointQueryResponse> getEndpoints() {
+        return endpoints.values().stream()
+                .map(this::buildResponse)
+                .sorted(Comparator.comparingLong((EndpointQueryResponse endpoint) ->
+                                endpoint.getOverBudgetRequests() + endpoint.getRepeatedSelectRequests() + endpoint.getSlowStatementRequests())
+                        .thenComparingDouble(EndpointQueryResponse::getAverageStatements)
+                        .reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        logger.info("Resetting query diagnostics for {} endpoints", endpoints.size());
+        endpoints.clear();
+    }
+
+    private EndpointQueryResponse buildResponse(EndpointQueryStats stats) {
+        long requests = stats.getRequests().sum();
+        return EndpointQueryResponse.builder()
+                .endpoint(stats.getEndpoint())
+                .requests(requests)
+                .averageStatements(requests == 0 ? 0 : (double) stats.getStatements().sum() / requests)
+                .maxStatements(stats.getMaxStatements().get())
+                .queryBudget(stats.getQueryBudget() >= 0 ? stats.getQueryBudget() : null)
+                .overBudgetRequests(stats.getOverBudgetRequests().sum())
+                .repeatedSelectRequests(stats.getRepeatedSelectRequests().sum())
+                .repeatedSql(stats.getRepeatedSql())
+                .repeatedCount(stats.getRepeatedCount())
+                .slowStatementRequests(stats.getSlowStatementRequests().sum())
+                .slowSql(stats.getSlowSql())
+                .slowMillis(stats.getSlowNanos() / 1_000_000.0)
+                .build();
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+}
@@ -0,0 +1,6 @@
+package app.forecast.model;
+
+import java.time.LocalDateTime;
+
+public record BookingInterval(LocalDateTime startAt, LocalDateTime endAt) {
+}
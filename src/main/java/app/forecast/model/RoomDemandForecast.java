@@ -0,0 +1,49 @@
+package app.forecast.model;
+
+import app.room.model.Room;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class RoomDemandForecast {
+
+    public static final int HOURS_PER_WEEK = 7 * 24;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne
+    @JoinColumn(name = "room_id", nullable = false, unique = true)
+    private Room room;
+
+    @Column(nullable = false, length = HOURS_PER_WEEK * 2)
+    private byte[] profile;
+
+    @Column(nullable = false)
+    private LocalDate processedThrough;
+
+    @Column(nullable = false)
+    private int observedDays;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
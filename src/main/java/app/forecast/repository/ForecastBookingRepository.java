@@ -0,0 +1,22 @@
+package app.forecast.repository;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.forecast.model.BookingInterval;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ForecastBookingRepository extends org.springframework.data.repository.Repository<Booking, UUID> {
+
+    @Query("select new app.forecast.model.BookingInterval(b.startAt, b.endAt) from Booking b " +
+            "where b.room.id = :roomId and b.status <> :excluded and b.startAt < :to and b.endAt > :from")
+    List<BookingInterval> findIntervals(@Param("roomId") UUID roomId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("excluded") BookingStatus excluded);
+}
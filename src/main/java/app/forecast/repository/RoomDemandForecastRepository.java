@@ -0,0 +1,23 @@
+package app.forecast.repository;
+
+import app.forecast.model.RoomDemandForecast;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoomDemandForecastRepository extends JpaRepository<RoomDemandForecast, UUID> {
+
+    @Query("select f from RoomDemandForecast f join fetch f.room")
+    List<RoomDemandForecast> findAllWithRoom();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from RoomDemandForecast f where f.room.id = :roomId")
+    Optional<RoomDemandForecast> findByRoomIdForUpdate(@Param("roomId") UUID roomId);
+}
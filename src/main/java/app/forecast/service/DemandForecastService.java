@@ -0,0 +1,270 @@
+package app.forecast.service;
+
+import app.booking.model.BookingStatus;
+import app.forecast.model.BookingInterval;
+import app.forecast.model.RoomDemandForecast;
+import app.forecast.repository.ForecastBookingRepository;
+import app.forecast.repository.RoomDemandForecastRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.web.dto.RoomForecastResponse;
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class DemandForecastService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DemandForecastService.class);
+    private static final int HOURS = RoomDemandForecast.HOURS_PER_WEEK;
+    private static final double SCALE = 10_000.0;
+
+    private final RoomRepository roomRepository;
+    private final RoomDemandForecastRepository roomDemandForecastRepository;
+    private final ForecastBookingRepository forecastBookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final ExecutorService refreshExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final double smoothing;
+    private final int historyDays;
+
+    public DemandForecastService(
+            RoomRepository roomRepository,
+            RoomDemandForecastRepository roomDemandForecastRepository,
+            ForecastBookingRepository forecastBookingRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.forecast.threads:0}") int threads,
+            @Value("${app.forecast.smoothing:0.3}") double smoothing,
+            @Value("${app.forecast.history-days:364}") int historyDays) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Forecast smoothing must be in (0, 1]");
+        }
+        this.roomRepository = roomRepository;
+        this.roomDemandForecastRepository = roomDemandForecastRepository;
+        this.forecastBookingRepository = forecastBookingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.smoothing = smoothing;
+        this.historyDays = historyDays;
+
+        int poolSize = threads > 0 ? threads : Math.min(4, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "demand-forecast-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "demand-forecast-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void startUpdate(String requestedBy) {
+        claimRun();
+        refreshExecutor.execute(() -> runUpdate(requestedBy));
+    }
+
+    @Scheduled(cron = "${app.forecast.cron:0 0 3 * * *}")
+    public void scheduledUpdate() {
+        try {
+            claimRun();
+        } catch (IllegalStateException e) {
+            logger.info("Skipping scheduled demand forecast update: {}", e.getMessage());
+            return;
+        }
+        runUpdate("scheduler");
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, RoomForecastResponse> getForecasts() {
+        return roomDemandForecastRepository.findAllWithRoom().stream()
+                .collect(Collectors.toMap(forecast -> forecast.getRoom().getId(), this::buildResponse));
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void claimRun() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A demand forecast update is already running");
+        }
+    }
+
+    private void runUpdate(String requestedBy) {
+        try {
+            updateForecasts(requestedBy);
+        } catch (RuntimeException e) {
+            logger.warn("Demand forecast update failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void updateForecasts(String requestedBy) {
+        LocalDate through = LocalDate.now().minusDays(1);
+        long startedAt = System.nanoTime();
+        List<Room> rooms = roomRepository.findAllByDeletedAtIsNull();
+        logger.info("Updating demand forecasts for {} rooms through {} (requested by {})", rooms.size(), through, requestedBy);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (Room room : rooms) {
+            results.add(executor.submit(() -> updateRoom(room.getId(), room.getCreatedAt().toLocalDate(), through)));
+        }
+
+        int updatedRooms = 0;
+        long processedDays = 0;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                int days = results.get(i).get();
+                processedDays += days;
+                if (days > 0) {
+                    updatedRooms++;
+                }
+            } catch (ExecutionException e) {
+                logger.warn("Demand forecast failed for room ID: {}", rooms.get(i).getId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while updating demand forecasts", e);
+            }
+        }
+        logger.info("Demand forecasts updated for {} rooms ({} room-days) in {} ms",
+                updatedRooms, processedDays, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int updateRoom(UUID roomId, LocalDate roomCreatedOn, LocalDate through) {
+        return transactionTemplate.execute(status -> {
+            Optional<RoomDemandForecast> existing = roomDemandForecastRepository.findByRoomIdForUpdate(roomId);
+            LocalDate from = existing
+                    .map(forecast -> forecast.getProcessedThrough().plusDays(1))
+                    .orElseGet(() -> {
+                        LocalDate historyStart = through.minusDays(historyDays - 1L);
+                        return roomCreatedOn.isAfter(historyStart) ? roomCreatedOn : historyStart;
+                    });
+            if (from.isAfter(through)) {
+                return 0;
+            }
+
+            int days = (int) ChronoUnit.DAYS.between(from, through) + 1;
+            int[] bookedMinutes = bookedMinutesPerHour(roomId, from, days);
+            double[] levels = existing.map(forecast -> decode(forecast.getProfile())).orElseGet(() -> new double[HOURS]);
+            boolean[] initialized = new boolean[HOURS];
+            if (existing.isPresent()) {
+                Arrays.fill(initialized, true);
+            }
+
+            for (int day = 0; day < days; day++) {
+                int dayOffset = (from.plusDays(day).getDayOfWeek().getValue() - 1) * 24;
+                for (int hour = 0; hour < 24; hour++) {
+                    int slot = dayOffset + hour;
+                    double occupancy = Math.min(60, bookedMinutes[day * 24 + hour]) / 60.0;
+                    levels[slot] = initialized[slot] ? smoothing * occupancy + (1 - smoothing) * levels[slot] : occupancy;
+                    initialized[slot] = true;
+                }
+            }
+
+            RoomDemandForecast forecast = existing.orElseGet(() -> RoomDemandForecast.builder()
+                    .room(roomRepository.getReferenceById(roomId))
+                    .build());
+            forecast.setProfile(encode(levels));
+            forecast.setProcessedThrough(through);
+            forecast.setObservedDays(forecast.getObservedDays() + days);
+            forecast.setUpdatedAt(LocalDateTime.now());
+            roomDemandForecastRepository.save(forecast);
+            logger.debug("Demand forecast for room ID: {} advanced by {} days", roomId, days);
+            return days;
+        });
+    }
+
+    private int[] bookedMinutesPerHour(UUID roomId, LocalDate from, int days) {
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = windowStart.plusDays(days);
+        int[] bookedMinutes = new int[days * 24];
+        for (BookingInterval interval : forecastBookingRepository.findIntervals(
+                roomId, windowStart, windowEnd, BookingStatus.CANCELED)) {
+            LocalDateTime cursor = interval.startAt().isBefore(windowStart) ? windowStart : interval.startAt();
+            LocalDateTime end = interval.endAt().isAfter(windowEnd) ? windowEnd : interval.endAt();
+            while (cursor.isBefore(end)) {
+                LocalDateTime nextHour = cursor.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                LocalDateTime sliceEnd = nextHour.isBefore(end) ? nextHour : end;
+                int index = (int) ChronoUnit.HOURS.between(windowStart, cursor.truncatedTo(ChronoUnit.HOURS));
+                bookedMinutes[index] += (int) ChronoUnit.MINUTES.between(cursor, sliceEnd);
+                cursor = sliceEnd;
+            }
+        }
+        return bookedMinutes;
+    }
+
+    private RoomForecastResponse buildResponse(RoomDemandForecast forecast) {
+        double[] levels = decode(forecast.getProfile());
+        double total = 0;
+        int peakSlot = 0;
+        for (int slot = 0; slot < HOURS; slot++) {
+            total += levels[slot];
+            if (levels[slot] > levels[peakSlot]) {
+                peakSlot = slot;
+            }
+        }
+
+        String peakDay = DayOfWeek.of(peakSlot / 24 + 1).getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+        return RoomForecastResponse.builder()
+                .roomId(forecast.getRoom().getId())
+                .occupancyPercent(Math.round(total / HOURS * 1000) / 10.0)
+                .peakSlot(String.format("%s %02d:00", peakDay, peakSlot % 24))
+                .peakOccupancyPercent(Math.round(levels[peakSlot] * 1000) / 10.0)
+                .observedDays(forecast.getObservedDays())
+                .processedThrough(forecast.getProcessedThrough())
+                .build();
+    }
+
+    private static byte[] encode(double[] levels) {
+        ByteBuffer buffer = ByteBuffer.allocate(HOURS * 2);
+        for (double level : levels) {
+            buffer.putShort((short) Math.round(level * SCALE));
+        }
+        return buffer.array();
+    }
+
+    private static double[] decode(byte[] profile) {
+        ByteBuffer buffer = ByteBuffer.wrap(profile);
+        double[] levels = new double[HOURS];
+        for (int slot = 0; slot < HOURS; slot++) {
+            levels[slot] = buffer.getShort() / SCALE;
+        }
+        return levels;
+    }
+}
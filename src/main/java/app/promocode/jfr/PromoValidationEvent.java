@@ -0,0 +1,22 @@
+package app.promocode.jfr;
+
+import app.util.OperationEvent;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.promocode.Validation")
+@Label("Promo Code Validation")
+public class PromoValidationEvent extends OperationEvent {
+
+    @Label("Code")
+    String code;
+
+    public static PromoValidationEvent start(String code) {
+        PromoValidationEvent event = new PromoValidationEvent();
+        if (event.isEnabled()) {
+            event.code = code;
+        }
+        event.startTracking();
+        return event;
+    }
+}
@@ -0,0 +1,56 @@
+package app.promocode.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class PromoCodeGenerationJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String prefix;
+    private final int requestedCodes;
+    private final String requestedBy;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong createdCodes = new AtomicLong();
+    private volatile PromoCodeGenerationStatus status = PromoCodeGenerationStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public PromoCodeGenerationJob(String prefix, int requestedCodes, String requestedBy) {
+        this.prefix = prefix;
+        this.requestedCodes = requestedCodes;
+        this.requestedBy = requestedBy;
+    }
+
+    public void start() {
+        this.status = PromoCodeGenerationStatus.RUNNING;
+    }
+
+    public void addCreated(long codes) {
+        createdCodes.addAndGet(codes);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = PromoCodeGenerationStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.finishedAt = LocalDateTime.now();
+        this.error = error;
+        this.status = PromoCodeGenerationStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == PromoCodeGenerationStatus.COMPLETED || status == PromoCodeGenerationStatus.FAILED;
+    }
+
+    public int getPercent() {
+        if (status == PromoCodeGenerationStatus.COMPLETED) {
+            return 100;
+        }
+        return requestedCodes > 0 ? (int) Math.min(99, createdCodes.get() * 100 / requestedCodes) : 0;
+    }
+}
@@ -0,0 +1,5 @@
+package app.promocode.model;
+
+public enum PromoCodeGenerationStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,54 @@
+package app.promocode.model;
+
+import app.room.model.Room;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"promocode_id", "room_id"}))
+public class PromoCodeRoomUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "promocode_id", nullable = false)
+    private PromoCode promoCode;
+
+    @ManyToOne
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    @Column(nullable = false)
+    private long redemptions;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal grossRevenue;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDiscount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
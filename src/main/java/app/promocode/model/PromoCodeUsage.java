@@ -0,0 +1,46 @@
+package app.promocode.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class PromoCodeUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne
+    @JoinColumn(name = "promocode_id", nullable = false, unique = true)
+    private PromoCode promoCode;
+
+    @Column(nullable = false)
+    private long redemptions;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal grossRevenue;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDiscount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,14 +1,29 @@
 package app.promocode.repository;
-//
-//import app.promocode.model.PromoCode;
-//import java.time.LocalDateTime;
-//import java.util.Optional;
-//import java.util.UUID;
-//import org.springframework.data.jpa.repository.JpaRepository;
-//import org.springframework.stereotype.Repository;
-//
-//@Repository
-//public interface PromoCodeRepository extends JpaRepository<PromoCode, UUID> {
-//    Optional<PromoCode> findByCodeAndActiveTrueAndValidFromBeforeAndValidToAfter(String code, LocalDateTime from, LocalDateTime to);
-//    boolean existByCode(String code);
-//}
+
+import app.promocode.model.PromoCode;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PromoCodeRepository extends JpaRepository<PromoCode, UUID> {
+    Optional<PromoCode> findByCode(String code);
+    Optional<PromoCode> findByCodeAndActiveTrueAndValidFromBeforeAndValidToAfter(String code, LocalDateTime from, LocalDateTime to);
+    boolean existsByCode(String code);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p.code from PromoCode p")
+    Stream<String> streamAllCodes();
+
+    @Query("select p.code from PromoCode p where p.code in :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
+}
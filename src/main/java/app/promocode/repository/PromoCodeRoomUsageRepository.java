@@ -0,0 +1,37 @@
+package app.promocode.repository;
+
+import app.promocode.model.PromoCodeRoomUsage;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PromoCodeRoomUsageRepository extends JpaRepository<PromoCodeRoomUsage, UUID> {
+
+    @Query("select u from PromoCodeRoomUsage u join fetch u.room " +
+            "where u.promoCode.id = :promoCodeId order by u.redemptions desc")
+    List<PromoCodeRoomUsage> findAllByPromoCodeIdWithRoom(@Param("promoCodeId") UUID promoCodeId);
+
+    @Modifying
+    @Query("delete from PromoCodeRoomUsage u where u.promoCode.id = :promoCodeId")
+    void deleteAllByPromoCodeId(@Param("promoCodeId") UUID promoCodeId);
+
+    @Modifying
+    @Query(value = "insert into promo_code_room_usage (id, promocode_id, room_id, redemptions, gross_revenue, total_discount, updated_at) " +
+            "values (:id, :promoCodeId, :roomId, :redemptions, :grossRevenue, :discount, :now) " +
+            "on duplicate key update redemptions = redemptions + :redemptions, gross_revenue = gross_revenue + :grossRevenue, " +
+            "total_discount = total_discount + :discount, updated_at = :now", nativeQuery = true)
+    void upsert(@Param("id") UUID id,
+                @Param("promoCodeId") UUID promoCodeId,
+                @Param("roomId") UUID roomId,
+                @Param("redemptions") long redemptions,
+                @Param("grossRevenue") BigDecimal grossRevenue,
+                @Param("discount") BigDecimal discount,
+                @Param("now") LocalDateTime now);
+}
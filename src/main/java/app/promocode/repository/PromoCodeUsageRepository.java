@@ -0,0 +1,40 @@
+package app.promocode.repository;
+
+import app.promocode.model.PromoCodeUsage;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PromoCodeUsageRepository extends JpaRepository<PromoCodeUsage, UUID> {
+    Optional<PromoCodeUsage> findByPromoCodeId(UUID promoCodeId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from PromoCodeUsage u where u.promoCode.id = :promoCodeId")
+    Optional<PromoCodeUsage> findByPromoCodeIdForUpdate(@Param("promoCodeId") UUID promoCodeId);
+
+    @Modifying
+    @Query(value = "insert into promo_code_usage (id, promocode_id, redemptions, gross_revenue, total_discount, updated_at) " +
+            "values (:id, :promoCodeId, 0, 0, 0, :now) on duplicate key update promocode_id = promocode_id", nativeQuery = true)
+    void insertIfAbsent(@Param("id") UUID id,
+                        @Param("promoCodeId") UUID promoCodeId,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update PromoCodeUsage u set u.redemptions = u.redemptions + :redemptions, " +
+            "u.grossRevenue = u.grossRevenue + :grossRevenue, u.totalDiscount = u.totalDiscount + :discount, " +
+            "u.updatedAt = :now where u.promoCode.id = :promoCodeId")
+    int increment(@Param("promoCodeId") UUID promoCodeId,
+                  @Param("redemptions") long redemptions,
+                  @Param("grossRevenue") BigDecimal grossRevenue,
+                  @Param("discount") BigDecimal discount,
+                  @Param("now") LocalDateTime now);
+}
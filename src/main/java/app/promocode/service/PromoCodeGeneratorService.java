@@ -0,0 +1,170 @@
+package app.promocode.service;
+
+import app.promocode.model.PromoCode;
+import app.promocode.model.PromoCodeGenerationJob;
+import app.promocode.repository.PromoCodeRepository;
+import app.util.BloomFilter;
+import app.web.dto.PromoCodeBulkCreateRequest;
+import jakarta.persistence.EntityManager;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class PromoCodeGeneratorService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromoCodeGeneratorService.class);
+    private static final char[] ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int CHUNK_SIZE = 1000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int RETAINED_JOBS = 20;
+
+    private final PromoCodeRepository promoCodeRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService executor;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<UUID, PromoCodeGenerationJob> jobs = new ConcurrentHashMap<>();
+
+    public PromoCodeGeneratorService(PromoCodeRepository promoCodeRepository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager) {
+        this.promoCodeRepository = promoCodeRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "promo-code-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public PromoCodeGenerationJob startGeneration(PromoCodeBulkCreateRequest request, String requestedBy) {
+        logger.info("Generating {} promo codes with prefix: {}", request.getCount(), request.getPrefix());
+
+        if (request.getValidFrom().isAfter(request.getValidTo()) ||
+                request.getValidFrom().isEqual(request.getValidTo())) {
+            logger.warn("Promo code generation failed: invalid date range");
+            throw new IllegalArgumentException("Valid from date must be before valid to date");
+        }
+
+        evictOldJobs();
+        String prefix = request.getPrefix() != null ? request.getPrefix() : "";
+        PromoCodeGenerationJob job = new PromoCodeGenerationJob(prefix, request.getCount(), requestedBy);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> runJob(job, request));
+        return job;
+    }
+
+    public List<PromoCodeGenerationJob> getRecentJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(PromoCodeGenerationJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void runJob(PromoCodeGenerationJob job, PromoCodeBulkCreateRequest request) {
+        try {
+            job.start();
+            long startedAt = System.nanoTime();
+            BloomFilter knownCodes = readOnlyTransactionTemplate.execute(status -> seedKnownCodes(request.getCount()));
+            LocalDateTime now = LocalDateTime.now();
+
+            int collisions = 0;
+            while (job.getCreatedCodes().get() < request.getCount()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    job.fail("Interrupted");
+                    return;
+                }
+                int chunkSize = (int) Math.min(CHUNK_SIZE, request.getCount() - job.getCreatedCodes().get());
+                Set<String> candidates = new LinkedHashSet<>(chunkSize * 2);
+                while (candidates.size() < chunkSize) {
+                    String code = job.getPrefix() + randomCode(request.getCodeLength());
+                    if (knownCodes.mightContain(code)) {
+                        collisions++;
+                        continue;
+                    }
+                    knownCodes.put(code);
+                    candidates.add(code);
+                }
+
+                int taken = transactionTemplate.execute(status -> insertChunk(candidates, request, now));
+                collisions += taken;
+                job.addCreated(candidates.size());
+            }
+
+            job.complete();
+            logger.info("Generated {} promo codes in {} ms ({} collisions skipped)",
+                    job.getCreatedCodes().get(), (System.nanoTime() - startedAt) / 1_000_000, collisions);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            logger.warn("Promo code generation failed after {} codes: {}", job.getCreatedCodes().get(), e.getMessage(), e);
+        }
+    }
+
+    private int insertChunk(Set<String> candidates, PromoCodeBulkCreateRequest request, LocalDateTime now) {
+        List<String> takenMeanwhile = promoCodeRepository.findExistingCodes(candidates);
+        takenMeanwhile.forEach(candidates::remove);
+
+        for (String code : candidates) {
+            entityManager.persist(PromoCode.builder()
+                    .code(code)
+                    .percent(request.getPercent())
+                    .validFrom(request.getValidFrom())
+                    .validTo(request.getValidTo())
+                    .active(true)
+                    .createdAt(now)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return takenMeanwhile.size();
+    }
+
+    private void evictOldJobs() {
+        List<PromoCodeGenerationJob> finished = jobs.values().stream()
+                .filter(PromoCodeGenerationJob::isFinished)
+                .sorted(Comparator.comparing(PromoCodeGenerationJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+        finished.stream().skip(RETAINED_JOBS).forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private BloomFilter seedKnownCodes(int requestedCount) {
+        BloomFilter filter = new BloomFilter(promoCodeRepository.count() + requestedCount, FALSE_POSITIVE_RATE);
+        try (Stream<String> codes = promoCodeRepository.streamAllCodes()) {
+            codes.forEach(filter::put);
+        }
+        return filter;
+    }
+
+    private String randomCode(int length) {
+        char[] code = new char[length];
+        for (int i = 0; i < length; i++) {
+            code[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+}
@@ -2,8 +2,11 @@ package app.promocode.service;
 
 import app.web.dto.PromoCodeCreateRequest;
 import app.web.dto.PromoCodeUpdateRequest;
+import app.promocode.jfr.PromoValidationEvent;
 import app.promocode.model.PromoCode;
 import app.promocode.repository.PromoCodeRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -17,9 +20,11 @@ public class PromoCodeService {
 
     private static final Logger logger = LoggerFactory.getLogger(PromoCodeService.class);
     private final PromoCodeRepository promoCodeRepository;
+    private final MeterRegistry meterRegistry;
 
-    public PromoCodeService(PromoCodeRepository promoCodeRepository) {
+    public PromoCodeService(PromoCodeRepository promoCodeRepository, MeterRegistry meterRegistry) {
         this.promoCodeRepository = promoCodeRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     @Transactional
@@ -71,20 +76,31 @@ public class PromoCodeService {
                 });
     }
 
+    @Timed("promocodes.validate")
     @Transactional(readOnly = true)
     public PromoCode validateAndGetPromoCode(String code) {
         logger.debug("Validating promo code: {}", code);
         LocalDateTime now = LocalDateTime.now();
-
-        PromoCode promoCode = promoCodeRepository
-                .findByCodeAndActiveTrueAndValidFromBeforeAndValidToAfter(code, now, now)
-                .orElseThrow(() -> {
-                    logger.warn("Invalid or expired promo code: {}", code);
-                    return new IllegalArgumentException("Promo code is invalid, inactive, or expired");
-                });
-
-        logger.info("Promo code validated successfully: {}", code);
-        return promoCode;
+        PromoValidationEvent event = PromoValidationEvent.start(code);
+        try {
+            PromoCode promoCode = promoCodeRepository
+                    .findByCodeAndActiveTrueAndValidFromBeforeAndValidToAfter(code, now, now)
+                    .orElseThrow(() -> {
+                        logger.warn("Invalid or expired promo code: {}", code);
+                        String reason = failureReason(code, now);
+                        meterRegistry.counter("promocodes.validation.failures", "reason", reason).increment();
+                        event.outcome(reason);
+                        return new IllegalArgumentException("Promo code is invalid, inactive, or expired");
+                    });
+
+            logger.info("Promo code validated successfully: {}", code);
+            return promoCode;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
     }
 
     @Transactional(readOnly = true)
@@ -135,4 +151,15 @@ public class PromoCodeService {
     public boolean existsByCode(String code) {
         return promoCodeRepository.existsByCode(code);
     }
+
+    private String failureReason(String code, LocalDateTime now) {
+        return promoCodeRepository.findByCode(code)
+                .map(promoCode -> {
+                    if (!promoCode.isActive()) {
+                        return "inactive";
+                    }
+                    return promoCode.getValidFrom().isBefore(now) ? "expired" : "not_yet_valid";
+                })
+                .orElse("unknown");
+    }
 }
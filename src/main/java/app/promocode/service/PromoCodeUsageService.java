@@ -0,0 +1,208 @@
+package app.promocode.service;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.booking.repository.BookingRepository;
+import app.booking.service.BookingPriceCalculator;
+import app.promocode.model.PromoCode;
+import app.promocode.model.PromoCodeRoomUsage;
+import app.promocode.model.PromoCodeUsage;
+import app.promocode.repository.PromoCodeRoomUsageRepository;
+import app.promocode.repository.PromoCodeUsageRepository;
+import app.web.dto.PromoCodeRoomUsageResponse;
+import app.web.dto.PromoCodeUsageResponse;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class PromoCodeUsageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromoCodeUsageService.class);
+    private final PromoCodeUsageRepository promoCodeUsageRepository;
+    private final PromoCodeRoomUsageRepository promoCodeRoomUsageRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingPriceCalculator bookingPriceCalculator;
+
+    public PromoCodeUsageService(
+            PromoCodeUsageRepository promoCodeUsageRepository,
+            PromoCodeRoomUsageRepository promoCodeRoomUsageRepository,
+            BookingRepository bookingRepository,
+            BookingPriceCalculator bookingPriceCalculator) {
+        this.promoCodeUsageRepository = promoCodeUsageRepository;
+        this.promoCodeRoomUsageRepository = promoCodeRoomUsageRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingPriceCalculator = bookingPriceCalculator;
+    }
+
+    @Transactional
+    public void recordRedemption(Booking booking) {
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        BigDecimal discount = bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), totalPrice);
+        applyChange(booking, 1, totalPrice, discount);
+    }
+
+    @Transactional
+    public void recordCancellation(Booking booking) {
+        recordCancellations(List.of(booking));
+    }
+
+    @Transactional
+    public void recordCancellations(List<Booking> bookings) {
+        Map<UUID, PromoCode> promoCodes = new HashMap<>();
+        Map<UUID, UsageDelta> usageDeltas = new TreeMap<>();
+        Map<UUID, Map<UUID, UsageDelta>> roomDeltas = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getPromoCode() == null) {
+                continue;
+            }
+            UUID promoCodeId = booking.getPromoCode().getId();
+            BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+            BigDecimal discount = bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), totalPrice);
+
+            promoCodes.putIfAbsent(promoCodeId, booking.getPromoCode());
+            usageDeltas.computeIfAbsent(promoCodeId, id -> new UsageDelta()).add(totalPrice, discount);
+            roomDeltas.computeIfAbsent(promoCodeId, id -> new TreeMap<>())
+                    .computeIfAbsent(booking.getRoom().getId(), id -> new UsageDelta())
+                    .add(totalPrice, discount);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        usageDeltas.forEach((promoCodeId, delta) -> {
+            if (promoCodeUsageRepository.increment(promoCodeId, -delta.redemptions, delta.grossRevenue.negate(),
+                    delta.discount.negate(), now) == 0) {
+                rebuildUsage(promoCodes.get(promoCodeId));
+                return;
+            }
+            roomDeltas.get(promoCodeId).forEach((roomId, roomDelta) -> promoCodeRoomUsageRepository.upsert(
+                    UUID.randomUUID(), promoCodeId, roomId, -roomDelta.redemptions, roomDelta.grossRevenue.negate(),
+                    roomDelta.discount.negate(), now));
+        });
+    }
+
+    @Transactional
+    public void recordRepricing(Booking booking, BigDecimal previousTotalPrice) {
+        BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+        if (totalPrice.compareTo(previousTotalPrice) == 0) {
+            return;
+        }
+        BigDecimal discountDelta = bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), totalPrice)
+                .subtract(bookingPriceCalculator.calculatePromoDiscount(booking.getPromoCode(), previousTotalPrice));
+        applyChange(booking, 0, totalPrice.subtract(previousTotalPrice), discountDelta);
+    }
+
+    @Transactional
+    public void rebuildUsage(PromoCode promoCode) {
+        logger.info("Rebuilding usage rollups for promo code ID: {}", promoCode.getId());
+        LocalDateTime now = LocalDateTime.now();
+        promoCodeUsageRepository.insertIfAbsent(UUID.randomUUID(), promoCode.getId(), now);
+        PromoCodeUsage usage = promoCodeUsageRepository.findByPromoCodeIdForUpdate(promoCode.getId())
+                .orElseThrow(() -> new IllegalStateException("Usage rollup missing for promo code ID: " + promoCode.getId()));
+        usage.setRedemptions(0);
+        usage.setGrossRevenue(BigDecimal.ZERO);
+        usage.setTotalDiscount(BigDecimal.ZERO);
+        usage.setUpdatedAt(now);
+
+        Map<UUID, PromoCodeRoomUsage> roomUsages = new LinkedHashMap<>();
+        for (Booking booking : bookingRepository.findAllByPromoCodeIdAndStatusNot(promoCode.getId(), BookingStatus.CANCELED)) {
+            BigDecimal totalPrice = bookingPriceCalculator.calculateTotalPrice(booking);
+            BigDecimal discount = bookingPriceCalculator.calculatePromoDiscount(promoCode, totalPrice);
+
+            usage.setRedemptions(usage.getRedemptions() + 1);
+            usage.setGrossRevenue(usage.getGrossRevenue().add(totalPrice));
+            usage.setTotalDiscount(usage.getTotalDiscount().add(discount));
+
+            PromoCodeRoomUsage roomUsage = roomUsages.computeIfAbsent(booking.getRoom().getId(),
+                    roomId -> PromoCodeRoomUsage.builder()
+                            .promoCode(promoCode)
+                            .room(booking.getRoom())
+                            .grossRevenue(BigDecimal.ZERO)
+                            .totalDiscount(BigDecimal.ZERO)
+                            .updatedAt(now)
+                            .build());
+            roomUsage.setRedemptions(roomUsage.getRedemptions() + 1);
+            roomUsage.setGrossRevenue(roomUsage.getGrossRevenue().add(totalPrice));
+            roomUsage.setTotalDiscount(roomUsage.getTotalDiscount().add(discount));
+        }
+
+        promoCodeRoomUsageRepository.deleteAllByPromoCodeId(promoCode.getId());
+        promoCodeUsageRepository.save(usage);
+        promoCodeRoomUsageRepository.saveAll(roomUsages.values());
+        logger.info("Usage rollups rebuilt for promo code ID: {} ({} redemptions)", promoCode.getId(), usage.getRedemptions());
+    }
+
+    @Transactional(readOnly = true)
+    public PromoCodeUsageResponse getUsage(UUID promoCodeId) {
+        logger.debug("Getting usage rollups for promo code ID: {}", promoCodeId);
+        return promoCodeUsageRepository.findByPromoCodeId(promoCodeId)
+                .map(usage -> buildUsageResponse(usage, promoCodeRoomUsageRepository.findAllByPromoCodeIdWithRoom(promoCodeId)))
+                .orElseGet(() -> PromoCodeUsageResponse.builder()
+                        .grossRevenue(BigDecimal.ZERO)
+                        .totalDiscount(BigDecimal.ZERO)
+                        .netRevenue(BigDecimal.ZERO)
+                        .rooms(Collections.emptyList())
+                        .build());
+    }
+
+    private void applyChange(Booking booking, long redemptions, BigDecimal grossRevenue, BigDecimal discount) {
+        UUID promoCodeId = booking.getPromoCode().getId();
+        UUID roomId = booking.getRoom().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (promoCodeUsageRepository.increment(promoCodeId, redemptions, grossRevenue, discount, now) == 0) {
+            rebuildUsage(booking.getPromoCode());
+            return;
+        }
+
+        promoCodeRoomUsageRepository.upsert(UUID.randomUUID(), promoCodeId, roomId, redemptions, grossRevenue, discount, now);
+    }
+
+    private PromoCodeUsageResponse buildUsageResponse(PromoCodeUsage usage, List<PromoCodeRoomUsage> roomUsages) {
+        List<PromoCodeRoomUsageResponse> rooms = roomUsages.stream()
+                .filter(roomUsage -> roomUsage.getRedemptions() > 0)
+                .map(roomUsage -> PromoCodeRoomUsageResponse.builder()
+                        .roomId(roomUsage.getRoom().getId())
+                        .roomName(roomUsage.getRoom().getName())
+                        .redemptions(roomUsage.getRedemptions())
+                        .grossRevenue(roomUsage.getGrossRevenue())
+                        .totalDiscount(roomUsage.getTotalDiscount())
+                        .sharePercent(usage.getRedemptions() > 0
+                                ? (int) Math.round(roomUsage.getRedemptions() * 100.0 / usage.getRedemptions())
+                                : 0)
+                        .build())
+                .collect(Collectors.toList());
+
+        return PromoCodeUsageResponse.builder()
+                .redemptions(usage.getRedemptions())
+                .grossRevenue(usage.getGrossRevenue())
+                .totalDiscount(usage.getTotalDiscount())
+                .netRevenue(usage.getGrossRevenue().subtract(usage.getTotalDiscount()))
+                .updatedAt(usage.getUpdatedAt())
+                .rooms(rooms)
+                .build();
+    }
+
+    private static final class UsageDelta {
+
+        private long redemptions;
+        private BigDecimal grossRevenue = BigDecimal.ZERO;
+        private BigDecimal discount = BigDecimal.ZERO;
+
+        private void add(BigDecimal grossRevenue, BigDecimal discount) {
+            this.redemptions++;
+            this.grossRevenue = this.grossRevenue.add(grossRevenue);
+            this.discount = this.discount.add(discount);
+        }
+    }
+}
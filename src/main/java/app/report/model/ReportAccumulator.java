@@ -0,0 +1,63 @@
+package app.report.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class ReportAccumulator {
+
+    public static final int BOOKINGS = 0;
+    public static final int GROSS_CENTS = 1;
+    public static final int DISCOUNT_CENTS = 2;
+    public static final int MINUTES = 3;
+    private static final int FIELDS = 4;
+
+    private final long[] rooms;
+    private final Map<UUID, long[]> promoCodes = new HashMap<>();
+    private long rows;
+
+    public ReportAccumulator(int roomCount) {
+        this.rooms = new long[roomCount * FIELDS];
+    }
+
+    public void add(int roomIndex, UUID promoCodeId, long bookings, long grossCents, long discountCents, long minutes) {
+        int offset = roomIndex * FIELDS;
+        rooms[offset + BOOKINGS] += bookings;
+        rooms[offset + GROSS_CENTS] += grossCents;
+        rooms[offset + DISCOUNT_CENTS] += discountCents;
+        rooms[offset + MINUTES] += minutes;
+        if (promoCodeId != null) {
+            long[] promo = promoCodes.computeIfAbsent(promoCodeId, id -> new long[FIELDS]);
+            promo[BOOKINGS] += bookings;
+            promo[GROSS_CENTS] += grossCents;
+            promo[DISCOUNT_CENTS] += discountCents;
+            promo[MINUTES] += minutes;
+        }
+        rows++;
+    }
+
+    public void merge(ReportAccumulator other) {
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] += other.rooms[i];
+        }
+        other.promoCodes.forEach((id, totals) -> {
+            long[] promo = promoCodes.computeIfAbsent(id, key -> new long[FIELDS]);
+            for (int i = 0; i < FIELDS; i++) {
+                promo[i] += totals[i];
+            }
+        });
+        rows += other.rows;
+    }
+
+    public long room(int roomIndex, int field) {
+        return rooms[roomIndex * FIELDS + field];
+    }
+
+    public Map<UUID, long[]> getPromoCodes() {
+        return promoCodes;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
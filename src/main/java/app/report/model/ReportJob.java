@@ -0,0 +1,65 @@
+package app.report.model;
+
+import app.web.dto.RevenueReportResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class ReportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String requestedBy;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    private volatile long totalRows;
+    private volatile ReportStatus status = ReportStatus.QUEUED;
+    private volatile long startedNanos;
+    private volatile long elapsedMillis;
+    private volatile RevenueReportResponse result;
+    private volatile String error;
+
+    public ReportJob(LocalDate from, LocalDate to, String requestedBy) {
+        this.from = from;
+        this.to = to;
+        this.requestedBy = requestedBy;
+    }
+
+    public void start(long totalRows) {
+        this.totalRows = totalRows;
+        this.startedNanos = System.nanoTime();
+        this.status = ReportStatus.RUNNING;
+    }
+
+    public void addProcessed(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    public void complete(RevenueReportResponse result) {
+        this.elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        this.result = result;
+        this.status = ReportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.elapsedMillis = startedNanos > 0 ? (System.nanoTime() - startedNanos) / 1_000_000 : 0;
+        this.error = error;
+        this.status = ReportStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ReportStatus.COMPLETED || status == ReportStatus.FAILED;
+    }
+
+    public int getPercent() {
+        if (status == ReportStatus.COMPLETED) {
+            return 100;
+        }
+        long total = totalRows;
+        return total > 0 ? (int) Math.min(99, processedRows.get() * 100 / total) : 0;
+    }
+}
@@ -0,0 +1,7 @@
+package app.report.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReportRow(UUID roomId, UUID promoCodeId, Integer promoPercent, LocalDateTime startAt, LocalDateTime endAt) {
+}
@@ -0,0 +1,5 @@
+package app.report.model;
+
+public enum ReportStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
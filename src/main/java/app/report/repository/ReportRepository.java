@@ -0,0 +1,30 @@
+package app.report.repository;
+
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.report.model.ReportRow;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReportRepository extends org.springframework.data.repository.Repository<Booking, UUID> {
+
+    @Query("select count(b) from Booking b where b.status <> :excluded and b.startAt < :to and b.endAt > :from")
+    long countRows(@Param("from") LocalDateTime from,
+                   @Param("to") LocalDateTime to,
+                   @Param("excluded") BookingStatus excluded);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "5000"))
+    @Query("select new app.report.model.ReportRow(b.room.id, p.id, p.percent, b.startAt, b.endAt) " +
+            "from Booking b left join b.promoCode p " +
+            "where b.status <> :excluded and b.startAt < :to and b.endAt > :from")
+    Stream<ReportRow> streamRows(@Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("excluded") BookingStatus excluded);
+}
@@ -0,0 +1,334 @@
+package app.report.service;
+
+import app.booking.model.BookingStatus;
+import app.promocode.model.PromoCode;
+import app.promocode.repository.PromoCodeRepository;
+import app.report.model.ReportAccumulator;
+import app.report.model.ReportJob;
+import app.report.model.ReportRow;
+import app.report.repository.ReportRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.web.dto.ReportGroupResponse;
+import app.web.dto.ReportProgressResponse;
+import app.web.dto.RevenueReportResponse;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RevenueReportService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevenueReportService.class);
+    private static final int MAX_RANGE_DAYS = 3660;
+    private static final int RETAINED_JOBS = 20;
+
+    private final ReportRepository reportRepository;
+    private final RoomRepository roomRepository;
+    private final PromoCodeRepository promoCodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool aggregationPool;
+    private final ThreadPoolExecutor jobExecutor;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    public RevenueReportService(
+            ReportRepository reportRepository,
+            RoomRepository roomRepository,
+            PromoCodeRepository promoCodeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.reports.parallelism:0}") int parallelism,
+            @Value("${app.reports.chunk-size:10000}") int chunkSize,
+            @Value("${app.reports.max-concurrent:2}") int maxConcurrent) {
+        this.reportRepository = reportRepository;
+        this.roomRepository = roomRepository;
+        this.promoCodeRepository = promoCodeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.aggregationPool = new ForkJoinPool(threads);
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = threads * 2;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrent * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "revenue-report-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Revenue reports aggregate on {} threads in chunks of {} rows ({} concurrent reports)",
+                threads, chunkSize, maxConcurrent);
+    }
+
+    public ReportJob startReport(LocalDate from, LocalDate to, String requestedBy) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (Duration.between(from.atStartOfDay(), to.atStartOfDay()).toDays() >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Report range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        evictOldJobs();
+        ReportJob job = new ReportJob(from, to, requestedBy);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            logger.warn("Revenue report rejected: {} reports already queued", jobExecutor.getQueue().size());
+            throw new IllegalStateException("Too many reports are running, please try again in a moment");
+        }
+        logger.info("Revenue report {} queued for {} to {} by {}", job.getId(), from, to, requestedBy);
+        return job;
+    }
+
+    public Optional<ReportJob> findJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public List<ReportJob> getRecentJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ReportJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public ReportProgressResponse getProgress(ReportJob job) {
+        return ReportProgressResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .processedRows(job.getProcessedRows().get())
+                .totalRows(job.getTotalRows())
+                .percent(job.getPercent())
+                .elapsedMillis(job.isFinished() ? job.getElapsedMillis() : 0)
+                .error(job.getError())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        aggregationPool.shutdownNow();
+    }
+
+    private void run(ReportJob job) {
+        try {
+            RevenueReportResponse result = transactionTemplate.execute(status -> aggregate(job));
+            job.complete(result);
+            logger.info("Revenue report {} completed: {} rows in {} ms",
+                    job.getId(), result.getRowsProcessed(), job.getElapsedMillis());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            logger.warn("Revenue report {} failed: {}", job.getId(), e.getMessage(), e);
+        }
+    }
+
+    private RevenueReportResponse aggregate(ReportJob job) {
+        LocalDateTime from = job.getFrom().atStartOfDay();
+        LocalDateTime to = job.getTo().plusDays(1).atStartOfDay();
+        ReportContext context = new ReportContext(roomRepository.findAll(), from, to);
+
+        job.start(reportRepository.countRows(from, to, BookingStatus.CANCELED));
+        ReportAccumulator total = new ReportAccumulator(context.rooms.size());
+        Deque<ForkJoinTask<ReportAccumulator>> inFlight = new ArrayDeque<>();
+
+        try (Stream<ReportRow> rows = reportRepository.streamRows(from, to, BookingStatus.CANCELED)) {
+            Iterator<ReportRow> iterator = rows.iterator();
+            List<ReportRow> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    submitChunk(chunk, context, job, inFlight, total);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submitChunk(chunk, context, job, inFlight, total);
+            }
+            while (!inFlight.isEmpty()) {
+                total.merge(inFlight.poll().join());
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+
+        return buildResponse(job, context, total);
+    }
+
+    private void submitChunk(List<ReportRow> chunk,
+                             ReportContext context,
+                             ReportJob job,
+                             Deque<ForkJoinTask<ReportAccumulator>> inFlight,
+                             ReportAccumulator total) {
+        while (inFlight.size() >= maxChunksInFlight) {
+            total.merge(inFlight.poll().join());
+        }
+        int roomCount = context.rooms.size();
+        inFlight.add(aggregationPool.submit(() -> {
+            ReportAccumulator accumulator = chunk.parallelStream().collect(
+                    () -> new ReportAccumulator(roomCount),
+                    (partial, row) -> accumulate(partial, row, context),
+                    ReportAccumulator::merge);
+            job.addProcessed(chunk.size());
+            return accumulator;
+        }));
+    }
+
+    private static void accumulate(ReportAccumulator accumulator, ReportRow row, ReportContext context) {
+        Integer roomIndex = context.roomIndexes.get(row.roomId());
+        if (roomIndex == null) {
+            return;
+        }
+
+        long minutes = minutesBetween(
+                row.startAt().isBefore(context.from) ? context.from : row.startAt(),
+                row.endAt().isAfter(context.to) ? context.to : row.endAt());
+        if (row.startAt().isBefore(context.from)) {
+            accumulator.add(roomIndex, row.promoCodeId(), 0, 0, 0, minutes);
+            return;
+        }
+
+        long bookingMinutes = minutesBetween(row.startAt(), row.endAt());
+        long hours = (bookingMinutes + 59) / 60;
+        long grossCents = context.priceCents[roomIndex] * hours;
+        long discountCents = row.promoPercent() != null ? (grossCents * row.promoPercent() + 50) / 100 : 0;
+        accumulator.add(roomIndex, row.promoCodeId(), 1, grossCents, discountCents, minutes);
+    }
+
+    private RevenueReportResponse buildResponse(ReportJob job, ReportContext context, ReportAccumulator total) {
+        long rangeMinutes = minutesBetween(context.from, context.to);
+
+        List<ReportGroupResponse> rooms = new ArrayList<>();
+        Map<String, long[]> locationTotals = new LinkedHashMap<>();
+        Map<String, Integer> locationRooms = new HashMap<>();
+        long[] overall = new long[4];
+        for (int i = 0; i < context.rooms.size(); i++) {
+            Room room = context.rooms.get(i);
+            long[] totals = {
+                    total.room(i, ReportAccumulator.BOOKINGS),
+                    total.room(i, ReportAccumulator.GROSS_CENTS),
+                    total.room(i, ReportAccumulator.DISCOUNT_CENTS),
+                    total.room(i, ReportAccumulator.MINUTES)
+            };
+            long[] location = locationTotals.computeIfAbsent(room.getLocation(), key -> new long[4]);
+            locationRooms.merge(room.getLocation(), 1, Integer::sum);
+            for (int field = 0; field < totals.length; field++) {
+                location[field] += totals[field];
+                overall[field] += totals[field];
+            }
+            if (totals[ReportAccumulator.BOOKINGS] > 0 || totals[ReportAccumulator.MINUTES] > 0) {
+                rooms.add(buildGroup(room.getName(), totals, rangeMinutes));
+            }
+        }
+
+        List<ReportGroupResponse> locations = locationTotals.entrySet().stream()
+                .filter(entry -> entry.getValue()[ReportAccumulator.MINUTES] > 0)
+                .map(entry -> buildGroup(entry.getKey(), entry.getValue(),
+                        rangeMinutes * locationRooms.get(entry.getKey())))
+                .collect(Collectors.toList());
+
+        Map<UUID, String> codes = promoCodeRepository.findAllById(total.getPromoCodes().keySet()).stream()
+                .collect(Collectors.toMap(PromoCode::getId, PromoCode::getCode));
+        long capacityMinutes = rangeMinutes * Math.max(1, context.rooms.size());
+        List<ReportGroupResponse> promoCodes = total.getPromoCodes().entrySet().stream()
+                .map(entry -> buildGroup(codes.getOrDefault(entry.getKey(), entry.getKey().toString()),
+                        entry.getValue(), capacityMinutes))
+                .collect(Collectors.toList());
+
+        Comparator<ReportGroupResponse> byNetRevenue = Comparator.comparing(ReportGroupResponse::getNetRevenue).reversed();
+        rooms.sort(byNetRevenue);
+        locations.sort(byNetRevenue);
+        promoCodes.sort(byNetRevenue);
+
+        return RevenueReportResponse.builder()
+                .from(job.getFrom())
+                .to(job.getTo())
+                .rowsProcessed(total.getRows())
+                .total(buildGroup("Total", overall, capacityMinutes))
+                .rooms(rooms)
+                .locations(locations)
+                .promoCodes(promoCodes)
+                .build();
+    }
+
+    private static ReportGroupResponse buildGroup(String name, long[] totals, long capacityMinutes) {
+        long grossCents = totals[ReportAccumulator.GROSS_CENTS];
+        long discountCents = totals[ReportAccumulator.DISCOUNT_CENTS];
+        long minutes = totals[ReportAccumulator.MINUTES];
+        return ReportGroupResponse.builder()
+                .name(name)
+                .bookings(totals[ReportAccumulator.BOOKINGS])
+                .grossRevenue(BigDecimal.valueOf(grossCents, 2))
+                .totalDiscount(BigDecimal.valueOf(discountCents, 2))
+                .netRevenue(BigDecimal.valueOf(grossCents - discountCents, 2))
+                .bookedHours(minutes / 60)
+                .utilizationPercent(capacityMinutes > 0 ? Math.round(minutes * 1000.0 / capacityMinutes) / 10.0 : 0)
+                .build();
+    }
+
+    private void evictOldJobs() {
+        List<ReportJob> finished = jobs.values().stream()
+                .filter(ReportJob::isFinished)
+                .sorted(Comparator.comparing(ReportJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+        finished.stream().skip(RETAINED_JOBS).forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private static long minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toMinutes();
+    }
+
+    private static final class ReportContext {
+        private final List<Room> rooms;
+        private final Map<UUID, Integer> roomIndexes;
+        private final long[] priceCents;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        private ReportContext(List<Room> rooms, LocalDateTime from, LocalDateTime to) {
+            this.rooms = rooms;
+            this.roomIndexes = new HashMap<>();
+            this.priceCents = new long[rooms.size()];
+            for (int i = 0; i < rooms.size(); i++) {
+                roomIndexes.put(rooms.get(i).getId(), i);
+                priceCents[i] = rooms.get(i).getBasePricePerHour().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            }
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -50,6 +50,10 @@ public class Room {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime deletionCompletedAt;
+
     @OneToMany(mappedBy = "room")
     @Builder.Default
     private List<Booking> bookings = new ArrayList<>();
@@ -0,0 +1,58 @@
+package app.room.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class RoomDeletionJob {
+
+    private final UUID roomId;
+    private final String roomName;
+    private final String requestedBy;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong canceledBookings = new AtomicLong();
+    private volatile long totalBookings;
+    private volatile RoomDeletionStatus status = RoomDeletionStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public RoomDeletionJob(UUID roomId, String roomName, String requestedBy) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.requestedBy = requestedBy;
+    }
+
+    public void start(long totalBookings) {
+        this.totalBookings = totalBookings;
+        this.status = RoomDeletionStatus.RUNNING;
+    }
+
+    public void addCanceled(long bookings) {
+        canceledBookings.addAndGet(bookings);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = RoomDeletionStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.finishedAt = LocalDateTime.now();
+        this.error = error;
+        this.status = RoomDeletionStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == RoomDeletionStatus.COMPLETED || status == RoomDeletionStatus.FAILED;
+    }
+
+    public int getPercent() {
+        if (status == RoomDeletionStatus.COMPLETED) {
+            return 100;
+        }
+        long total = totalBookings;
+        return total > 0 ? (int) Math.min(99, canceledBookings.get() * 100 / total) : 0;
+    }
+}
@@ -0,0 +1,5 @@
+package app.room.model;
+
+public enum RoomDeletionStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
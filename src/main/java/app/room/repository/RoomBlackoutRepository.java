@@ -0,0 +1,16 @@
+package app.room.repository;
+
+import app.room.model.RoomBlackout;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoomBlackoutRepository extends JpaRepository<RoomBlackout, UUID> {
+    List<RoomBlackout> findAllByRoomIdAndEndAtAfterOrderByStartAtAsc(UUID roomId, LocalDateTime after);
+    Optional<RoomBlackout> findByIdAndRoomId(UUID id, UUID roomId);
+    void deleteAllByRoomId(UUID roomId);
+}
@@ -1,13 +1,26 @@
 package app.room.repository;
 
 import app.room.model.Room;
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, UUID> {
     boolean existsByName(String name);
-    List<Room> findAllByVisibleTrueOrderByNameAsc();
+    List<Room> findAllByVisibleTrueAndDeletedAtIsNullOrderByNameAsc();
+    List<Room> findAllByDeletedAtIsNull();
+    long countByDeletedAtIsNull();
+    Optional<Room> findByIdAndDeletedAtIsNull(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select r from Room r where r.id = :id and r.deletedAt is null")
+    Optional<Room> findByIdForBooking(@Param("id") UUID id);
+    List<Room> findAllByDeletedAtIsNotNullAndDeletionCompletedAtIsNull();
 }
@@ -0,0 +1,122 @@
+package app.room.service;
+
+import app.booking.model.BookingStatus;
+import app.booking.model.CanceledBooking;
+import app.booking.repository.BookingRepository;
+import app.booking.service.BulkCancellationService;
+import app.room.model.Room;
+import app.room.model.RoomBlackout;
+import app.room.repository.RoomBlackoutRepository;
+import app.web.dto.BlackoutImpactResponse;
+import app.web.dto.ImpactedUserResponse;
+import app.web.dto.RoomBlackoutCreateRequest;
+import app.web.dto.RoomBlackoutResponse;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class RoomBlackoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomBlackoutService.class);
+    private final RoomBlackoutRepository roomBlackoutRepository;
+    private final RoomService roomService;
+    private final BookingRepository bookingRepository;
+    private final BulkCancellationService bulkCancellationService;
+
+    public RoomBlackoutService(
+            RoomBlackoutRepository roomBlackoutRepository,
+            RoomService roomService,
+            BookingRepository bookingRepository,
+            BulkCancellationService bulkCancellationService) {
+        this.roomBlackoutRepository = roomBlackoutRepository;
+        this.roomService = roomService;
+        this.bookingRepository = bookingRepository;
+        this.bulkCancellationService = bulkCancellationService;
+    }
+
+    @Transactional
+    public BlackoutImpactResponse createBlackout(UUID roomId, RoomBlackoutCreateRequest createRequest, String createdBy) {
+        logger.info("Creating blackout for room ID: {} from {} to {}", roomId, createRequest.getStartAt(), createRequest.getEndAt());
+
+        if (!createRequest.getStartAt().isBefore(createRequest.getEndAt())) {
+            logger.warn("Blackout creation failed: invalid time range");
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+
+        Room room = roomService.findById(roomId);
+        RoomBlackout blackout = roomBlackoutRepository.save(RoomBlackout.builder()
+                .room(room)
+                .startAt(createRequest.getStartAt())
+                .endAt(createRequest.getEndAt())
+                .reason(createRequest.getReason().trim())
+                .createdBy(createdBy)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        List<CanceledBooking> canceledBookings = bulkCancellationService.cancelAll(
+                bookingRepository.findAllForUpdateInRoomOverlapping(roomId, blackout.getStartAt(), blackout.getEndAt(),
+                        LocalDateTime.now(), BookingStatus.CANCELED, Pageable.unpaged()),
+                "Room blackout: " + blackout.getReason());
+
+        Map<UUID, ImpactedUserResponse> impactedUsers = new LinkedHashMap<>();
+        for (CanceledBooking booking : canceledBookings) {
+            ImpactedUserResponse impactedUser = impactedUsers.computeIfAbsent(booking.userId(), userId -> ImpactedUserResponse.builder()
+                    .userId(userId)
+                    .username(booking.username())
+                    .email(booking.email())
+                    .build());
+            impactedUser.setCanceledBookings(impactedUser.getCanceledBookings() + 1);
+        }
+
+        logger.info("Blackout created with ID: {}, canceled {} bookings of {} users",
+                blackout.getId(), canceledBookings.size(), impactedUsers.size());
+        return BlackoutImpactResponse.builder()
+                .blackout(buildBlackoutResponse(blackout))
+                .canceledBookings(canceledBookings.size())
+                .impactedUsers(impactedUsers.values().stream()
+                        .sorted(Comparator.comparing(ImpactedUserResponse::getUsername))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomBlackoutResponse> getUpcomingBlackouts(UUID roomId) {
+        logger.debug("Getting upcoming blackouts for room ID: {}", roomId);
+        return roomBlackoutRepository.findAllByRoomIdAndEndAtAfterOrderByStartAtAsc(roomId, LocalDateTime.now()).stream()
+                .map(this::buildBlackoutResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deleteBlackout(UUID roomId, UUID blackoutId) {
+        logger.info("Deleting blackout ID: {} for room ID: {}", blackoutId, roomId);
+        RoomBlackout blackout = roomBlackoutRepository.findByIdAndRoomId(blackoutId, roomId)
+                .orElseThrow(() -> {
+                    logger.warn("Blackout not found with ID: {}", blackoutId);
+                    return new IllegalArgumentException("Blackout not found with ID: " + blackoutId);
+                });
+        roomBlackoutRepository.delete(blackout);
+        logger.info("Blackout deleted successfully with ID: {}", blackoutId);
+    }
+
+    private RoomBlackoutResponse buildBlackoutResponse(RoomBlackout blackout) {
+        return RoomBlackoutResponse.builder()
+                .id(blackout.getId())
+                .startAt(blackout.getStartAt())
+                .endAt(blackout.getEndAt())
+                .reason(blackout.getReason())
+                .createdBy(blackout.getCreatedBy())
+                .createdAt(blackout.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package app.room.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class RoomCatalogCache {
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile RenderedCatalog rendered = new RenderedCatalog(-1);
+
+    public void markChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    public String get(Locale locale, Supplier<String> renderer) {
+        long current = version.get();
+        RenderedCatalog catalog = rendered;
+        if (catalog.version != current) {
+            catalog = new RenderedCatalog(current);
+            rendered = catalog;
+        }
+        String html = catalog.html.get(locale);
+        if (html == null) {
+            html = renderer.get();
+            catalog.html.put(locale, html);
+        }
+        return html;
+    }
+
+    private static final class RenderedCatalog {
+
+        private final long version;
+        private final Map<Locale, String> html = new ConcurrentHashMap<>();
+
+        private RenderedCatalog(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package app.room.service;
+
+import app.booking.model.BookingStatus;
+import app.booking.model.CanceledBooking;
+import app.booking.repository.BookingRepository;
+import app.booking.service.BulkCancellationService;
+import app.room.model.Room;
+import app.room.model.RoomDeletionJob;
+import app.room.repository.RoomBlackoutRepository;
+import app.room.repository.RoomRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RoomDeletionService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomDeletionService.class);
+    private static final String CANCELLATION_REASON = "Room removed";
+
+    private final RoomRepository roomRepository;
+    private final RoomBlackoutRepository roomBlackoutRepository;
+    private final BookingRepository bookingRepository;
+    private final BulkCancellationService bulkCancellationService;
+    private final RoomCatalogCache roomCatalogCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final long throttleMillis;
+    private final Map<UUID, RoomDeletionJob> jobs = new ConcurrentHashMap<>();
+
+    public RoomDeletionService(
+            RoomRepository roomRepository,
+            RoomBlackoutRepository roomBlackoutRepository,
+            BookingRepository bookingRepository,
+            BulkCancellationService bulkCancellationService,
+            RoomCatalogCache roomCatalogCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.rooms.deletion.chunk-size:200}") int chunkSize,
+            @Value("${app.rooms.deletion.throttle-ms:200}") long throttleMillis) {
+        this.roomRepository = roomRepository;
+        this.roomBlackoutRepository = roomBlackoutRepository;
+        this.bookingRepository = bookingRepository;
+        this.bulkCancellationService = bulkCancellationService;
+        this.roomCatalogCache = roomCatalogCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingDeletions() {
+        for (Room room : roomRepository.findAllByDeletedAtIsNotNullAndDeletionCompletedAtIsNull()) {
+            logger.info("Resuming deletion of room ID: {}", room.getId());
+            submit(new RoomDeletionJob(room.getId(), room.getName(), "system"));
+        }
+    }
+
+    public RoomDeletionJob deleteRoom(UUID roomId, String requestedBy) {
+        logger.info("Deleting room with ID: {}", roomId);
+        Room room = transactionTemplate.execute(status -> {
+            Room found = roomRepository.findByIdAndDeletedAtIsNull(roomId)
+                    .orElseThrow(() -> {
+                        logger.warn("Room not found with ID: {}", roomId);
+                        return new IllegalArgumentException("Room not found with ID: " + roomId);
+                    });
+            found.setVisible(false);
+            found.setDeletedAt(LocalDateTime.now());
+            roomCatalogCache.markChanged();
+            return roomRepository.save(found);
+        });
+
+        RoomDeletionJob job = new RoomDeletionJob(room.getId(), room.getName(), requestedBy);
+        submit(job);
+        logger.info("Room marked as deleted with ID: {}", roomId);
+        return job;
+    }
+
+    public List<RoomDeletionJob> getRecentJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(RoomDeletionJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void submit(RoomDeletionJob job) {
+        jobs.put(job.getRoomId(), job);
+        executor.execute(() -> runJob(job));
+    }
+
+    private void runJob(RoomDeletionJob job) {
+        UUID roomId = job.getRoomId();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            job.start(bookingRepository.countByRoomIdAndStatusNotAndStartAtAfter(roomId, BookingStatus.CANCELED, now));
+
+            int canceled;
+            do {
+                canceled = transactionTemplate.execute(status -> {
+                    List<CanceledBooking> chunk = bulkCancellationService.cancelAll(
+                            bookingRepository.findAllForUpdateInRoomStartingAfter(
+                                    roomId, now, BookingStatus.CANCELED, PageRequest.ofSize(chunkSize)),
+                            CANCELLATION_REASON);
+                    return chunk.size();
+                });
+                job.addCanceled(canceled);
+                if (canceled == chunkSize && throttleMillis > 0) {
+                    Thread.sleep(throttleMillis);
+                }
+            } while (canceled == chunkSize);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                roomBlackoutRepository.deleteAllByRoomId(roomId);
+                roomRepository.findById(roomId).ifPresent(room -> {
+                    room.setDeletionCompletedAt(LocalDateTime.now());
+                    roomRepository.save(room);
+                });
+            });
+            job.complete();
+            logger.info("Room deletion completed for room ID: {} ({} bookings canceled)", roomId, job.getCanceledBookings().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            logger.warn("Room deletion failed for room ID: {}: {}", roomId, e.getMessage(), e);
+        }
+    }
+}
@@ -5,8 +5,10 @@ import app.web.dto.RoomDetailsResponse;
 import app.web.dto.RoomUpdateRequest;
 import app.room.model.Room;
 import app.room.repository.RoomRepository;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -19,14 +21,16 @@ public class RoomService {
 
     private static final Logger logger = LoggerFactory.getLogger(RoomService.class);
     private final RoomRepository roomRepository;
+    private final RoomCatalogCache roomCatalogCache;
 
-    public RoomService(RoomRepository roomRepository) {
+    public RoomService(RoomRepository roomRepository, RoomCatalogCache roomCatalogCache) {
         this.roomRepository = roomRepository;
+        this.roomCatalogCache = roomCatalogCache;
     }
 
     @Transactional
     public Room createRoom(RoomCreateRequest createRequest) {
-        logger.info("Creating room with name: {}", createRequest.getName());
+        logger.debug("Creating room with name: {}", createRequest.getName());
 
         if (roomRepository.existsByName(createRequest.getName())) {
             logger.warn("Room creation failed: name {} already exists", createRequest.getName());
@@ -44,6 +48,7 @@ public class RoomService {
                 .build();
 
         Room savedRoom = roomRepository.save(room);
+        roomCatalogCache.markChanged();
         logger.info("Room created successfully with ID: {}", savedRoom.getId());
         return savedRoom;
     }
@@ -51,66 +56,50 @@ public class RoomService {
     @Transactional(readOnly = true)
     public Room findById(UUID id) {
         logger.debug("Finding room by ID: {}", id);
-        return roomRepository.findById(id)
+        return roomRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> {
                     logger.warn("Room not found with ID: {}", id);
                     return new IllegalArgumentException("Room not found with ID: " + id);
                 });
     }
 
+    @Transactional
+    public Room findByIdForBooking(UUID id) {
+        logger.debug("Locking room for booking by ID: {}", id);
+        return roomRepository.findByIdForBooking(id)
+                .orElseThrow(() -> {
+                    logger.warn("Room not found with ID: {}", id);
+                    return new IllegalArgumentException("Room not found with ID: " + id);
+                });
+    }
+
+    @Timed("rooms.details")
     @Transactional(readOnly = true)
     public RoomDetailsResponse getRoomDetails(UUID id) {
         logger.debug("Getting room details for ID: {}", id);
-        Room room = findById(id);
-        return RoomDetailsResponse.builder()
-                .id(room.getId())
-                .name(room.getName())
-                .location(room.getLocation())
-                .capacity(room.getCapacity())
-                .basePricePerHour(room.getBasePricePerHour())
-                .description(room.getDescription())
-                .visible(room.isVisible())
-                .createdAt(room.getCreatedAt())
-                .build();
+        return toResponse(findById(id));
     }
 
     @Transactional(readOnly = true)
     public List<RoomDetailsResponse> getAllRooms() {
         logger.debug("Getting all rooms");
-        return roomRepository.findAll().stream()
-                .map(room -> RoomDetailsResponse.builder()
-                        .id(room.getId())
-                        .name(room.getName())
-                        .location(room.getLocation())
-                        .capacity(room.getCapacity())
-                        .basePricePerHour(room.getBasePricePerHour())
-                        .description(room.getDescription())
-                        .visible(room.isVisible())
-                        .createdAt(room.getCreatedAt())
-                        .build())
+        return roomRepository.findAllByDeletedAtIsNull().stream()
+                .map(RoomService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Timed("rooms.catalog")
     @Transactional(readOnly = true)
     public List<RoomDetailsResponse> getVisibleRooms() {
         logger.debug("Getting visible rooms");
-        return roomRepository.findAllByVisibleTrueOrderByNameAsc().stream()
-                .map(room -> RoomDetailsResponse.builder()
-                        .id(room.getId())
-                        .name(room.getName())
-                        .location(room.getLocation())
-                        .capacity(room.getCapacity())
-                        .basePricePerHour(room.getBasePricePerHour())
-                        .description(room.getDescription())
-                        .visible(room.isVisible())
-                        .createdAt(room.getCreatedAt())
-                        .build())
+        return roomRepository.findAllByVisibleTrueAndDeletedAtIsNullOrderByNameAsc().stream()
+                .map(RoomService::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public Room updateRoom(UUID id, RoomUpdateRequest updateRequest) {
-        logger.info("Updating room with ID: {}", id);
+        logger.debug("Updating room with ID: {}", id);
         Room room = findById(id);
 
         if (!room.getName().equals(updateRequest.getName()) &&
@@ -126,29 +115,54 @@ public class RoomService {
         room.setDescription(updateRequest.getDescription());
 
         Room updatedRoom = roomRepository.save(room);
+        roomCatalogCache.markChanged();
         logger.info("Room updated successfully with ID: {}", id);
         return updatedRoom;
     }
 
     @Transactional
     public void toggleVisibility(UUID id) {
-        logger.info("Toggling visibility for room ID: {}", id);
+        logger.debug("Toggling visibility for room ID: {}", id);
         Room room = findById(id);
         room.setVisible(!room.isVisible());
         roomRepository.save(room);
+        roomCatalogCache.markChanged();
         logger.info("Room visibility toggled successfully for ID: {}. New visibility: {}", id, room.isVisible());
     }
 
-    @Transactional
-    public void deleteRoom(UUID id) {
-        logger.info("Deleting room with ID: {}", id);
-        Room room = findById(id);
-        roomRepository.delete(room);
-        logger.info("Room deleted successfully with ID: {}", id);
-    }
-
     @Transactional(readOnly = true)
     public boolean existsByName(String name) {
         return roomRepository.existsByName(name);
     }
+
+    private static RoomDetailsResponse toResponse(Room room) {
+        return RoomDetailsResponse.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .location(room.getLocation())
+                .capacity(room.getCapacity())
+                .basePricePerHour(room.getBasePricePerHour())
+                .description(room.getDescription())
+                .visible(room.isVisible())
+                .createdAt(room.getCreatedAt())
+                .imageUrl(imageUrl(room.getName()))
+                .build();
+    }
+
+    private static String imageUrl(String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        String image;
+        if (lowerName.contains("twin")) {
+            image = "twin-room-main";
+        } else if (lowerName.contains("luxury") || lowerName.contains("executive")) {
+            image = "luxury-suite-main";
+        } else if (lowerName.contains("single") || lowerName.contains("deluxe")) {
+            image = "single-room-main";
+        } else if (lowerName.contains("ocean")) {
+            image = "ocean-view-suite-main";
+        } else {
+            image = "conference-hall-main";
+        }
+        return "/images/rooms/" + image + ".jpg";
+    }
 }
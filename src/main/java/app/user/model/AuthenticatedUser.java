@@ -0,0 +1,51 @@
+package app.user.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    @EqualsAndHashCode.Include
+    private final UUID id;
+    private final String username;
+    private String password;
+    private final UserRole role;
+    private final UserStatus status;
+
+    public AuthenticatedUser(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.role = user.getRole();
+        this.status = user.getStatus();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
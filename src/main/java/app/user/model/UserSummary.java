@@ -0,0 +1,13 @@
+package app.user.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserSummary {
+    UUID getId();
+    String getUsername();
+    String getEmail();
+    UserRole getRole();
+    UserStatus getStatus();
+    LocalDateTime getCreatedAt();
+}
@@ -1,9 +1,18 @@
 package app.user.repository;
 
 import app.user.model.User;
+import app.user.model.UserSummary;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +20,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    Window<UserSummary> findAllProjectedBy(KeysetScrollPosition position, Limit limit, Sort sort);
+    Window<UserSummary> findByUsernameStartingWithOrEmailStartingWith(String username, String email,
+                                                                      KeysetScrollPosition position, Limit limit, Sort sort);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    boolean existsByUsernameAndIdNot(String username, UUID id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select u.username from User u")
+    Stream<String> streamAllUsernames();
 }
@@ -0,0 +1,14 @@
+package app.user.service;
+
+import lombok.Getter;
+
+@Getter
+public class DuplicateUserException extends IllegalArgumentException {
+
+    private final String field;
+
+    public DuplicateUserException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
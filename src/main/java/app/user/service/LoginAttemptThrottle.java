@@ -0,0 +1,50 @@
+package app.user.service;
+
+import app.util.SlidingWindowCounter;
+import java.time.Duration;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginAttemptThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptThrottle.class);
+    private static final int WINDOW_SLOTS = 6;
+
+    private final SlidingWindowCounter failures;
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerAddress;
+
+    public LoginAttemptThrottle(
+            @Value("${app.security.login-throttle.window:15m}") Duration window,
+            @Value("${app.security.login-throttle.max-failures-per-username:10}") int maxFailuresPerUsername,
+            @Value("${app.security.login-throttle.max-failures-per-address:50}") int maxFailuresPerAddress,
+            @Value("${app.security.login-throttle.counter-width:262144}") int counterWidth) {
+        this.failures = new SlidingWindowCounter(window, WINDOW_SLOTS, counterWidth);
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        logger.info("Login throttle allows {} failures per username and {} per address within {} ({} KB of counters)",
+                maxFailuresPerUsername, maxFailuresPerAddress, window, failures.memoryBytes() / 1024);
+    }
+
+    public boolean isBlocked(String username, String remoteAddress) {
+        return failures.estimate(usernameKey(username)) >= maxFailuresPerUsername
+                || failures.estimate(addressKey(remoteAddress)) >= maxFailuresPerAddress;
+    }
+
+    public void recordFailure(String username, String remoteAddress) {
+        failures.increment(usernameKey(username));
+        failures.increment(addressKey(remoteAddress));
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + (username != null ? username.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String addressKey(String remoteAddress) {
+        return "a:" + (remoteAddress != null ? remoteAddress : "");
+    }
+}
@@ -0,0 +1,51 @@
+package app.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginMetrics {
+
+    private static final String LOGINS = "users.logins";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter successes;
+    private final Counter throttled;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successes = meterRegistry.counter(LOGINS, "outcome", "success", "reason", "none");
+        this.throttled = meterRegistry.counter(LOGINS, "outcome", "failure", "reason", "throttled");
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successes.increment();
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        meterRegistry.counter(LOGINS, "outcome", "failure", "reason", failureReason(event.getException())).increment();
+    }
+
+    public void recordThrottled() {
+        throttled.increment();
+    }
+
+    private static String failureReason(AuthenticationException exception) {
+        if (exception instanceof BadCredentialsException) {
+            return "bad_credentials";
+        }
+        if (exception instanceof AuthenticationServiceException) {
+            return "unavailable";
+        }
+        return "other";
+    }
+}
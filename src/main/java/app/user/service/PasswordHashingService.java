@@ -0,0 +1,135 @@
+package app.user.service;
+
+import app.util.LatencyHistogram;
+import app.web.dto.PasswordHashingStatsResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+    private static final String DEFAULT_ENCODING_ID = "bcrypt";
+
+    private final DelegatingPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final LatencyHistogram encodeLatency = new LatencyHistogram();
+    private final LatencyHistogram matchLatency = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordHashingService(int bcryptStrength, int threads, int queueCapacity, Duration timeout) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        this.delegate = new DelegatingPasswordEncoder(DEFAULT_ENCODING_ID, Map.of(DEFAULT_ENCODING_ID, bcrypt));
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password hashing uses bcrypt strength {} on {} threads (queue capacity {})",
+                bcryptStrength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        try {
+            return submit(() -> delegate.encode(rawPassword), encodeLatency);
+        } catch (RejectedExecutionException | TimeoutException e) {
+            throw new IllegalStateException("The service is busy, please try again in a moment");
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return submit(() -> delegate.matches(rawPassword, encodedPassword), matchLatency);
+        } catch (RejectedExecutionException | TimeoutException e) {
+            throw new AuthenticationServiceException("The service is busy, please try again in a moment");
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStatsResponse getStats() {
+        return PasswordHashingStatsResponse.builder()
+                .hashes(encodeLatency.count())
+                .hashP50(encodeLatency.percentileMillis(50))
+                .hashP95(encodeLatency.percentileMillis(95))
+                .hashP99(encodeLatency.percentileMillis(99))
+                .verifications(matchLatency.count())
+                .verifyP50(matchLatency.percentileMillis(50))
+                .verifyP95(matchLatency.percentileMillis(95))
+                .verifyP99(matchLatency.percentileMillis(99))
+                .queued(executor.getQueue().size())
+                .activeThreads(executor.getActiveCount())
+                .rejected(rejected.sum())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task, LatencyHistogram histogram) throws TimeoutException {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    histogram.record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Password hashing rejected: {} tasks already queued", executor.getQueue().size());
+            throw e;
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            logger.warn("Password hashing timed out after {} ms", timeout.toMillis());
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
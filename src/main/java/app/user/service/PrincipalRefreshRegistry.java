@@ -0,0 +1,82 @@
+package app.user.service;
+
+import jakarta.servlet.http.HttpSession;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrincipalRefreshRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalRefreshRegistry.class);
+    private static final String CHANGE_ATTRIBUTE = PrincipalRefreshRegistry.class.getName() + ".change";
+    private static final String SEEN_ATTRIBUTE = PrincipalRefreshRegistry.class.getName() + ".seen";
+
+    private final FindByIndexNameSessionRepository<? extends Session> sessionRepository;
+
+    public PrincipalRefreshRegistry(FindByIndexNameSessionRepository<? extends Session> sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    public void markChanged(UUID userId) {
+        afterCommit(() -> {
+            int marked = markSessions(sessionRepository, userId, UUID.randomUUID().toString());
+            logger.debug("Marked {} stored sessions for refresh for user ID: {}", marked, userId);
+        });
+    }
+
+    public void signOutEverywhere(UUID userId) {
+        afterCommit(() -> {
+            Map<String, ? extends Session> sessions = sessionRepository.findByPrincipalName(userId.toString());
+            sessions.keySet().forEach(sessionRepository::deleteById);
+            logger.info("Removed {} stored sessions for user ID: {}", sessions.size(), userId);
+        });
+    }
+
+    public void trackSession(HttpSession session, UUID userId) {
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, userId.toString());
+        session.setAttribute(SEEN_ATTRIBUTE, session.getAttribute(CHANGE_ATTRIBUTE));
+    }
+
+    public boolean isTracked(HttpSession session, UUID userId) {
+        return userId.toString().equals(session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME));
+    }
+
+    public Object pendingChange(HttpSession session) {
+        Object change = session.getAttribute(CHANGE_ATTRIBUTE);
+        return Objects.equals(change, session.getAttribute(SEEN_ATTRIBUTE)) ? null : change;
+    }
+
+    public void markRefreshed(HttpSession session, Object change) {
+        session.setAttribute(SEEN_ATTRIBUTE, change);
+    }
+
+    private static <S extends Session> int markSessions(FindByIndexNameSessionRepository<S> repository, UUID userId, String change) {
+        Map<String, S> sessions = repository.findByPrincipalName(userId.toString());
+        sessions.values().forEach(session -> {
+            session.setAttribute(CHANGE_ATTRIBUTE, change);
+            repository.save(session);
+        });
+        return sessions.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
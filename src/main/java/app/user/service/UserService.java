@@ -2,16 +2,31 @@ package app.user.service;
 
 import app.web.dto.UserProfileResponse;
 import app.web.dto.UserRegisterRequest;
+import app.web.dto.UserSearchResponse;
 import app.web.dto.UserUpdateRequest;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.model.UserStatus;
+import app.user.model.UserSummary;
 import app.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,27 +35,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("username", "email", "createdAt");
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "~";
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalRefreshRegistry principalRefreshRegistry;
+    private final UsernameAvailabilityService usernameAvailabilityService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       PrincipalRefreshRegistry principalRefreshRegistry,
+                       UsernameAvailabilityService usernameAvailabilityService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalRefreshRegistry = principalRefreshRegistry;
+        this.usernameAvailabilityService = usernameAvailabilityService;
     }
 
-    @Transactional
+    @Timed("users.register")
     public User register(UserRegisterRequest registerRequest) {
-        logger.info("Attempting to register user with username: {}", registerRequest.getUsername());
-
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            logger.warn("Registration failed: username {} already exists", registerRequest.getUsername());
-            throw new IllegalArgumentException("Username already exists");
-        }
-
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            logger.warn("Registration failed: email {} already exists", registerRequest.getEmail());
-            throw new IllegalArgumentException("Email already exists");
-        }
+        logger.debug("Attempting to register user with username: {}", registerRequest.getUsername());
 
         String hashedPassword = passwordEncoder.encode(registerRequest.getPassword());
 
@@ -53,7 +68,18 @@ public class UserService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            DuplicateUserException duplicate = toDuplicateUserException(e,
+                    () -> userRepository.existsByUsername(registerRequest.getUsername()));
+            logger.warn("Registration failed: {} {} already exists", duplicate.getField(),
+                    duplicate.getField().equals("username") ? registerRequest.getUsername() : registerRequest.getEmail());
+            throw duplicate;
+        }
+
+        usernameAvailabilityService.registerUsername(savedUser.getUsername());
         logger.info("User registered successfully with ID: {}", savedUser.getId());
         return savedUser;
     }
@@ -94,58 +120,90 @@ public class UserService {
 
     @Transactional
     public void updateProfile(UUID id, UserUpdateRequest updateRequest) {
-        logger.info("Updating profile for user ID: {}", id);
+        logger.debug("Updating profile for user ID: {}", id);
         User user = findById(id);
 
-        if (!user.getUsername().equals(updateRequest.getUsername()) &&
-                userRepository.existsByUsername(updateRequest.getUsername())) {
-            logger.warn("Update failed: username {} already exists", updateRequest.getUsername());
-            throw new IllegalArgumentException("Username already exists");
-        }
-
-        if (!user.getEmail().equals(updateRequest.getEmail()) &&
-                userRepository.existsByEmail(updateRequest.getEmail())) {
-            logger.warn("Update failed: email {} already exists", updateRequest.getEmail());
-            throw new IllegalArgumentException("Email already exists");
-        }
-
         user.setUsername(updateRequest.getUsername());
         user.setEmail(updateRequest.getEmail());
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            DuplicateUserException duplicate = toDuplicateUserException(e,
+                    () -> userRepository.existsByUsernameAndIdNot(updateRequest.getUsername(), id));
+            logger.warn("Update failed: {} {} already exists", duplicate.getField(),
+                    duplicate.getField().equals("username") ? updateRequest.getUsername() : updateRequest.getEmail());
+            throw duplicate;
+        }
+        usernameAvailabilityService.registerUsername(updateRequest.getUsername());
+        principalRefreshRegistry.markChanged(id);
         logger.info("Profile updated successfully for user ID: {}", id);
     }
 
     @Transactional
     public void changeUserRole(UUID userId, UserRole newRole) {
-        logger.info("Changing role for user ID: {} to role: {}", userId, newRole);
+        logger.debug("Changing role for user ID: {} to role: {}", userId, newRole);
         User user = findById(userId);
         user.setRole(newRole);
         userRepository.save(user);
+        principalRefreshRegistry.signOutEverywhere(userId);
         logger.info("Role changed successfully for user ID: {}", userId);
     }
 
     @Transactional
     public void blockUser(UUID userId) {
-        logger.info("Blocking user ID: {}", userId);
+        logger.debug("Blocking user ID: {}", userId);
         User user = findById(userId);
         user.setStatus(UserStatus.BLOCKED);
         userRepository.save(user);
+        principalRefreshRegistry.signOutEverywhere(userId);
         logger.info("User blocked successfully with ID: {}", userId);
     }
 
     @Transactional
     public void unblockUser(UUID userId) {
-        logger.info("Unblocking user ID: {}", userId);
+        logger.debug("Unblocking user ID: {}", userId);
         User user = findById(userId);
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
+        principalRefreshRegistry.markChanged(userId);
         logger.info("User unblocked successfully with ID: {}", userId);
     }
 
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        logger.debug("Getting all users");
-        return userRepository.findAll();
+    public UserSearchResponse searchUsers(String query, String after, String before, int size, String sort, String direction) {
+        logger.debug("Searching users with query: {}, after: {}, before: {}, size: {}", query, after, before, size);
+        String sortProperty = SORTABLE_PROPERTIES.contains(sort) ? sort : "createdAt";
+        Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort order = Sort.by(sortDirection, sortProperty, "id");
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        if (before != null) {
+            position = parseCursor(before, sortProperty).map(ScrollPosition::backward).orElse(position);
+        } else if (after != null) {
+            position = parseCursor(after, sortProperty).map(ScrollPosition::forward).orElse(position);
+        }
+
+        Window<UserSummary> window;
+        if (query == null || query.isBlank()) {
+            window = userRepository.findAllProjectedBy(position, Limit.of(limit), order);
+        } else {
+            String prefix = query.trim();
+            window = userRepository.findByUsernameStartingWithOrEmailStartingWith(prefix, prefix, position, Limit.of(limit), order);
+        }
+
+        List<UserSummary> users = window.getContent();
+        boolean backward = position.scrollsBackward();
+        boolean hasNext = backward ? !users.isEmpty() : window.hasNext();
+        boolean hasPrevious = backward ? window.hasNext() : !position.isInitial() && !users.isEmpty();
+        return UserSearchResponse.builder()
+                .users(users)
+                .size(limit)
+                .sort(sortProperty)
+                .direction(sortDirection.name().toLowerCase(Locale.ROOT))
+                .nextCursor(hasNext ? formatCursor(users.get(users.size() - 1), sortProperty) : null)
+                .previousCursor(hasPrevious ? formatCursor(users.get(0), sortProperty) : null)
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -157,4 +215,51 @@ public class UserService {
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
+
+    public boolean isUsernameAvailable(String username) {
+        return usernameAvailabilityService.isAvailable(username);
+    }
+
+    private static String formatCursor(UserSummary user, String sortProperty) {
+        Object value = switch (sortProperty) {
+            case "username" -> user.getUsername();
+            case "email" -> user.getEmail();
+            default -> user.getCreatedAt();
+        };
+        return value + CURSOR_SEPARATOR + user.getId();
+    }
+
+    private static Optional<Map<String, Object>> parseCursor(String cursor, String sortProperty) {
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        try {
+            String value = cursor.substring(0, separator);
+            UUID id = UUID.fromString(cursor.substring(separator + 1));
+            Object key = "createdAt".equals(sortProperty) ? LocalDateTime.parse(value) : value;
+            return Optional.of(Map.of(sortProperty, key, "id", id));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            logger.debug("Ignoring malformed user search cursor: {}", cursor);
+            return Optional.empty();
+        }
+    }
+
+    private static DuplicateUserException toDuplicateUserException(DataIntegrityViolationException e, BooleanSupplier usernameTaken) {
+        String message = e.getMostSpecificCause().getMessage();
+        String constraint = message != null ? message.toLowerCase(Locale.ROOT) : "";
+        boolean duplicateUsername;
+        if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+            duplicateUsername = true;
+        } else if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+            duplicateUsername = false;
+        } else {
+            duplicateUsername = usernameTaken.getAsBoolean();
+        }
+
+        if (duplicateUsername) {
+            return new DuplicateUserException("username", "Username already exists");
+        }
+        return new DuplicateUserException("email", "Email already exists");
+    }
 }
@@ -0,0 +1,93 @@
+package app.user.service;
+
+import app.user.repository.UserRepository;
+import app.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class UsernameAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameAvailabilityService.class);
+    private static final long MIN_CAPACITY = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter filterHits;
+    private final Counter filterMisses;
+    private final AtomicLong inserted = new AtomicLong();
+    private volatile BloomFilter usernames;
+    private volatile long capacity;
+
+    public UsernameAvailabilityService(UserRepository userRepository, TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.filterHits = meterRegistry.counter("cache.gets", "cache", "username-filter", "result", "hit");
+        this.filterMisses = meterRegistry.counter("cache.gets", "cache", "username-filter", "result", "miss");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.users.username-filter.rebuild-cron:0 */10 * * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public boolean isAvailable(String username) {
+        BloomFilter filter = usernames;
+        if (filter == null) {
+            filterMisses.increment();
+            return !userRepository.existsByUsername(username);
+        }
+        filterHits.increment();
+        return !filter.mightContain(normalize(username));
+    }
+
+    public void registerUsername(String username) {
+        BloomFilter filter = usernames;
+        if (filter == null) {
+            return;
+        }
+        filter.put(normalize(username));
+        if (inserted.incrementAndGet() > capacity) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        long existing = userRepository.count();
+        long newCapacity = Math.max(MIN_CAPACITY, existing * 2);
+        BloomFilter filter = new BloomFilter(newCapacity, FALSE_POSITIVE_RATE);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> names = userRepository.streamAllUsernames()) {
+                names.forEach(name -> filter.put(normalize(name)));
+            }
+        });
+
+        this.capacity = newCapacity;
+        this.inserted.set(existing);
+        this.usernames = filter;
+        logger.info("Username filter built for {} users (capacity {}) in {} ms",
+                existing, newCapacity, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,20 +1,23 @@
 package app.user.service.impl;
 
+import app.user.model.AuthenticatedUser;
 import app.user.model.User;
 import app.user.model.UserStatus;
 import app.user.repository.UserRepository;
-import java.util.Collection;
-import java.util.Collections;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
     private final UserRepository userRepository;
 
     public UserDetailsServiceImpl(UserRepository userRepository) {
@@ -22,25 +25,34 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    public AuthenticatedUser loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        return toAuthenticatedUser(user);
+    }
 
-        if (user.getStatus() == UserStatus.BLOCKED) {
-            throw new UsernameNotFoundException("User is blocked: " + username);
-        }
+    public AuthenticatedUser loadUserById(UUID id) throws UsernameNotFoundException {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + id));
+        return toAuthenticatedUser(user);
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                getAuthorities(user)
-        );
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        AuthenticatedUser principal = (AuthenticatedUser) userDetails;
+        User user = userRepository.findById(principal.getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getId()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        logger.info("Password hash upgraded for user ID: {}", user.getId());
+        return new AuthenticatedUser(user);
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
+    private AuthenticatedUser toAuthenticatedUser(User user) {
+        if (user.getStatus() == UserStatus.BLOCKED) {
+            throw new UsernameNotFoundException("User is blocked: " + user.getUsername());
+        }
+        return new AuthenticatedUser(user);
     }
 }
-
@@ -0,0 +1,55 @@
+package app.util;
+
+import org.hibernate.SessionEventListener;
+
+public class JdbcTimingListener implements SessionEventListener {
+
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long acquisitionStartedAt;
+    private long executionStartedAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        record(acquisitionStartedAt, false);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executionStartedAt, true);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(executionStartedAt, true);
+    }
+
+    public static long statementsOnCurrentThread() {
+        return STATEMENTS.get()[0];
+    }
+
+    private static void record(long startedAt, boolean statement) {
+        if (statement) {
+            STATEMENTS.get()[0]++;
+        }
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null && startedAt != 0) {
+            timing.recordDb(System.nanoTime() - startedAt, statement);
+        }
+    }
+}
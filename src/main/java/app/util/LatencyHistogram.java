@@ -0,0 +1,90 @@
+package app.util;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final double GROWTH = 1.1;
+    private static final int BUCKETS = 200;
+    private static final long[] UPPER_BOUNDS_MICROS = new long[BUCKETS];
+
+    static {
+        double bound = 1;
+        for (int i = 0; i < BUCKETS; i++) {
+            UPPER_BOUNDS_MICROS[i] = (long) Math.ceil(bound);
+            bound *= GROWTH;
+        }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(bucketFor(micros));
+        total.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(UPPER_BOUNDS_MICROS[i], max.get()) / 1_000.0;
+            }
+        }
+        return max.get() / 1_000.0;
+    }
+
+    public double meanMillis() {
+        long count = total.sum();
+        return count == 0 ? 0 : sum.sum() / 1_000.0 / count;
+    }
+
+    public SortedMap<Double, Long> countsByUpperBoundMillis() {
+        SortedMap<Double, Long> buckets = new TreeMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                buckets.put(UPPER_BOUNDS_MICROS[i] / 1_000.0, count);
+            }
+        }
+        return buckets;
+    }
+
+    public double maxMillis() {
+        return max.get() / 1_000.0;
+    }
+
+    private static int bucketFor(long micros) {
+        int index = Arrays.binarySearch(UPPER_BOUNDS_MICROS, micros);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, BUCKETS - 1);
+    }
+}
@@ -0,0 +1,62 @@
+package app.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category("Simple Bookings")
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+
+    @Label("Outcome")
+    protected String outcome;
+
+    @Label("Statements")
+    @Description("JDBC statements Hibernate executed on this thread during the operation")
+    protected long statements;
+
+    private transient long statementsAtStart;
+
+    protected void startTracking() {
+        if (isEnabled()) {
+            statementsAtStart = JdbcTimingListener.statementsOnCurrentThread();
+            begin();
+        }
+    }
+
+    public void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void failed(RuntimeException e) {
+        if (outcome == null) {
+            outcome = failureOutcome(e);
+        }
+    }
+
+    public void finish() {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            if (outcome == null) {
+                outcome = "success";
+            }
+            statements = JdbcTimingListener.statementsOnCurrentThread() - statementsAtStart;
+            commit();
+        }
+    }
+
+    protected String failureOutcome(RuntimeException e) {
+        if (e instanceof SecurityException) {
+            return "forbidden";
+        }
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
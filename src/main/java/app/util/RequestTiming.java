@@ -0,0 +1,152 @@
+package app.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private long handlerStartedAt;
+    private long handlerEndedAt;
+    private long viewEndedAt;
+    private long dbNanosBeforeHandler;
+    private long dbNanosInHandler = -1;
+    private long dbNanos;
+    private int dbStatements;
+    private int statementsBeforeHandler;
+    private int queryBudget = -1;
+    private String preparedSql;
+    private Map<String, StatementStats> statementStats;
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void handlerStarted() {
+        handlerStartedAt = System.nanoTime();
+        dbNanosBeforeHandler = dbNanos;
+        statementsBeforeHandler = dbStatements;
+    }
+
+    public void handlerEnded() {
+        handlerEndedAt = System.nanoTime();
+        dbNanosInHandler = dbNanos - dbNanosBeforeHandler;
+    }
+
+    public void viewEnded() {
+        if (handlerEndedAt == 0) {
+            handlerEnded();
+        }
+        viewEndedAt = System.nanoTime();
+    }
+
+    public void statementPrepared(String sql) {
+        preparedSql = sql;
+    }
+
+    public void recordDb(long nanos, boolean statement) {
+        dbNanos += nanos;
+        if (statement) {
+            dbStatements++;
+            if (preparedSql != null) {
+                if (statementStats == null) {
+                    statementStats = new HashMap<>();
+                }
+                statementStats.computeIfAbsent(preparedSql, sql -> new StatementStats()).record(nanos);
+            }
+        }
+    }
+
+    public void setQueryBudget(int queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    public int getQueryBudget() {
+        return queryBudget;
+    }
+
+    public int handlerStatements() {
+        return handlerStartedAt == 0 ? 0 : dbStatements - statementsBeforeHandler;
+    }
+
+    public Map<String, StatementStats> statementStats() {
+        return statementStats != null ? Collections.unmodifiableMap(statementStats) : Map.of();
+    }
+
+    public long totalNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    public int dbStatements() {
+        return dbStatements;
+    }
+
+    public long serviceNanos() {
+        if (handlerStartedAt == 0) {
+            return 0;
+        }
+        long handlerEnd = handlerEndedAt != 0 ? handlerEndedAt : System.nanoTime();
+        long handlerDbNanos = dbNanosInHandler >= 0 ? dbNanosInHandler : dbNanos - dbNanosBeforeHandler;
+        return Math.max(0, handlerEnd - handlerStartedAt - handlerDbNanos);
+    }
+
+    public long viewNanos() {
+        if (handlerEndedAt == 0) {
+            return 0;
+        }
+        long viewEnd = viewEndedAt != 0 ? viewEndedAt : System.nanoTime();
+        return viewEnd - handlerEndedAt;
+    }
+
+    public String toServerTimingHeader() {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"statements=%d\", service;dur=%.1f, view;dur=%.1f, total;dur=%.1f",
+                millis(dbNanos), dbStatements, millis(serviceNanos()), millis(viewNanos()), millis(totalNanos()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public static class StatementStats {
+
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package app.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SlidingWindowCounter {
+
+    private static final int DEPTH = 3;
+    private static final long[] SEEDS = {0x9e3779b97f4a7c15L, 0xc2b2ae3d27d4eb4fL, 0x165667b19e3779f9L};
+
+    private final int slots;
+    private final long slotMillis;
+    private final int width;
+    private final AtomicIntegerArray[] counters;
+    private final AtomicLongArray slotEpochs;
+    private final Object[] slotLocks;
+
+    public SlidingWindowCounter(Duration window, int slots, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width must be a power of two");
+        }
+        this.slots = slots;
+        this.slotMillis = Math.max(1, window.toMillis() / slots);
+        this.width = width;
+        this.counters = new AtomicIntegerArray[slots];
+        this.slotEpochs = new AtomicLongArray(slots);
+        this.slotLocks = new Object[slots];
+        for (int i = 0; i < slots; i++) {
+            counters[i] = new AtomicIntegerArray(width * DEPTH);
+            slotEpochs.set(i, -1);
+            slotLocks[i] = new Object();
+        }
+    }
+
+    public void increment(String key) {
+        long epoch = System.currentTimeMillis() / slotMillis;
+        int slot = (int) (epoch % slots);
+        AtomicIntegerArray slotCounters = currentSlot(slot, epoch);
+
+        int[] indexes = indexes(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int index : indexes) {
+            estimate = Math.min(estimate, slotCounters.get(index));
+        }
+        int updated = estimate + 1;
+        for (int index : indexes) {
+            slotCounters.accumulateAndGet(index, updated, Math::max);
+        }
+    }
+
+    public int estimate(String key) {
+        long epoch = System.currentTimeMillis() / slotMillis;
+        int[] indexes = indexes(key);
+        int total = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            long slotEpoch = slotEpochs.get(slot);
+            if (slotEpoch < 0 || epoch - slotEpoch >= slots) {
+                continue;
+            }
+            int estimate = Integer.MAX_VALUE;
+            for (int index : indexes) {
+                estimate = Math.min(estimate, counters[slot].get(index));
+            }
+            total += estimate;
+        }
+        return total;
+    }
+
+    public long memoryBytes() {
+        return (long) slots * width * DEPTH * Integer.BYTES;
+    }
+
+    private AtomicIntegerArray currentSlot(int slot, long epoch) {
+        if (slotEpochs.get(slot) != epoch) {
+            synchronized (slotLocks[slot]) {
+                if (slotEpochs.get(slot) != epoch) {
+                    AtomicIntegerArray slotCounters = counters[slot];
+                    for (int i = 0; i < slotCounters.length(); i++) {
+                        slotCounters.set(i, 0);
+                    }
+                    slotEpochs.set(slot, epoch);
+                }
+            }
+        }
+        return counters[slot];
+    }
+
+    private int[] indexes(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int[] indexes = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            long hash = SEEDS[row];
+            for (byte b : bytes) {
+                hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            indexes[row] = row * width + (int) (hash & (width - 1));
+        }
+        return indexes;
+    }
+}
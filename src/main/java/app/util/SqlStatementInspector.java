@@ -0,0 +1,15 @@
+package app.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
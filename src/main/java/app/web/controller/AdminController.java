@@ -1,9 +1,17 @@
 package app.web.controller;
 
+import app.booking.service.RoomDailyStatsService;
+import app.room.service.RoomService;
 import app.user.model.User;
 import app.user.model.UserRole;
+import app.user.service.PasswordHashingService;
 import app.user.service.UserService;
+import app.web.dto.UserSearchResponse;
+import app.web.interceptor.QueryBudget;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,16 +27,40 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    private static final int MAX_DASHBOARD_DAYS = 366;
+
     private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final RoomDailyStatsService roomDailyStatsService;
+    private final RoomService roomService;
 
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService,
+                           PasswordHashingService passwordHashingService,
+                           RoomDailyStatsService roomDailyStatsService,
+                           RoomService roomService) {
         this.userService = userService;
+        this.passwordHashingService = passwordHashingService;
+        this.roomDailyStatsService = roomDailyStatsService;
+        this.roomService = roomService;
     }
 
+    @QueryBudget(1)
     @GetMapping("/users")
-    public ModelAndView getAllUsers() {
+    public ModelAndView getAllUsers(@RequestParam(required = false) String q,
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(required = false) String before,
+                                    @RequestParam(defaultValue = "25") int size,
+                                    @RequestParam(defaultValue = "createdAt") String sort,
+                                    @RequestParam(defaultValue = "desc") String direction) {
+        UserSearchResponse result = userService.searchUsers(q, after, before, size, sort, direction);
         ModelAndView modelAndView = new ModelAndView("admin/users");
-        modelAndView.addObject("users", userService.getAllUsers());
+        modelAndView.addObject("users", result.getUsers());
+        modelAndView.addObject("size", result.getSize());
+        modelAndView.addObject("nextCursor", result.getNextCursor());
+        modelAndView.addObject("previousCursor", result.getPreviousCursor());
+        modelAndView.addObject("q", q);
+        modelAndView.addObject("sort", result.getSort());
+        modelAndView.addObject("direction", result.getDirection());
         return modelAndView;
     }
 
@@ -65,9 +97,29 @@ public class AdminController {
         return new ModelAndView("redirect:/admin/users/" + id);
     }
 
+    @QueryBudget(4)
     @GetMapping("/dashboard")
-    public ModelAndView dashboard() {
-        return new ModelAndView("admin/dashboard");
+    public ModelAndView dashboard(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                  @RequestParam(required = false) UUID roomId) {
+        LocalDate rangeTo = to != null ? to : LocalDate.now();
+        LocalDate rangeFrom = from != null && !from.isAfter(rangeTo) ? from : rangeTo.minusDays(29);
+        if (ChronoUnit.DAYS.between(rangeFrom, rangeTo) >= MAX_DASHBOARD_DAYS) {
+            rangeFrom = rangeTo.minusDays(MAX_DASHBOARD_DAYS - 1);
+        }
+
+        ModelAndView modelAndView = new ModelAndView("admin/dashboard");
+        modelAndView.addObject("passwordHashing", passwordHashingService.getStats());
+        modelAndView.addObject("occupancy", roomDailyStatsService.getDashboard(rangeFrom, rangeTo, roomId));
+        modelAndView.addObject("rooms", roomService.getAllRooms());
+        return modelAndView;
+    }
+
+    @PostMapping("/dashboard/reconcile")
+    public ModelAndView reconcileStats(RedirectAttributes redirectAttributes) {
+        roomDailyStatsService.reconcileRecentDays();
+        redirectAttributes.addFlashAttribute("success", "Daily room stats reconciled");
+        return new ModelAndView("redirect:/admin/dashboard");
     }
 }
 
@@ -0,0 +1,43 @@
+package app.web.controller;
+
+import app.audit.service.OverlapAuditService;
+import app.user.model.AuthenticatedUser;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+@Controller
+@RequestMapping("/admin/audits")
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditController {
+
+    private final OverlapAuditService overlapAuditService;
+
+    public AuditController(OverlapAuditService overlapAuditService) {
+        this.overlapAuditService = overlapAuditService;
+    }
+
+    @GetMapping("/overlaps")
+    public ModelAndView overlaps() {
+        ModelAndView modelAndView = new ModelAndView("admin/overlaps");
+        modelAndView.addObject("audit", overlapAuditService.getLatestAudit().orElse(null));
+        return modelAndView;
+    }
+
+    @PostMapping("/overlaps")
+    public ModelAndView runOverlapAudit(@AuthenticationPrincipal AuthenticatedUser principal,
+                                        RedirectAttributes redirectAttributes) {
+        try {
+            overlapAuditService.startAudit(principal.getUsername());
+            redirectAttributes.addFlashAttribute("success", "Overlap audit started");
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return new ModelAndView("redirect:/admin/audits/overlaps");
+    }
+}
@@ -5,11 +5,12 @@ import app.web.dto.BookingDetailsResponse;
 import app.web.dto.BookingUpdateRequest;
 import app.booking.service.BookingService;
 import app.room.service.RoomService;
-import app.user.model.User;
-import app.user.service.UserService;
+import app.user.model.AuthenticatedUser;
+import app.web.interceptor.QueryBudget;
 import jakarta.validation.Valid;
-import java.security.Principal;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,36 +28,34 @@ public class BookingController {
 
     private final BookingService bookingService;
     private final RoomService roomService;
-    private final UserService userService;
 
-    public BookingController(BookingService bookingService, RoomService roomService, UserService userService) {
+    public BookingController(BookingService bookingService, RoomService roomService) {
         this.bookingService = bookingService;
         this.roomService = roomService;
-        this.userService = userService;
     }
 
+    @QueryBudget(1)
     @GetMapping
-    public ModelAndView getAllBookings(Principal principal) {
-        User user = userService.findByUsername(principal.getName());
+    public ModelAndView getAllBookings(@AuthenticationPrincipal AuthenticatedUser principal) {
         ModelAndView modelAndView = new ModelAndView("booking/list");
-        modelAndView.addObject("bookings", bookingService.getAllBookingsByUserId(user.getId()));
+        modelAndView.addObject("bookings", bookingService.getAllBookingsByUserId(principal.getId()));
         return modelAndView;
     }
 
+    @QueryBudget(3)
     @GetMapping("/{id}")
-    public ModelAndView getBookingDetails(@PathVariable UUID id, Principal principal) {
-        BookingDetailsResponse booking = bookingService.getBookingDetails(id);
-        User user = userService.findByUsername(principal.getName());
-        
-        if (!booking.getUserId().equals(user.getId())) {
+    public ModelAndView getBookingDetails(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        Optional<BookingDetailsResponse> booking = bookingService.findBookingDetailsForUser(id, principal.getId());
+        if (booking.isEmpty()) {
             return new ModelAndView("redirect:/bookings");
         }
 
         ModelAndView modelAndView = new ModelAndView("booking/details");
-        modelAndView.addObject("booking", booking);
+        modelAndView.addObject("booking", booking.get());
         return modelAndView;
     }
 
+    @QueryBudget(1)
     @GetMapping("/create")
     public ModelAndView showCreateForm(@RequestParam(required = false) UUID roomId) {
         ModelAndView modelAndView = new ModelAndView("booking/create");
@@ -72,7 +71,7 @@ public class BookingController {
     @PostMapping("/create")
     public ModelAndView createBooking(@Valid @ModelAttribute BookingCreateRequest createRequest,
                                       BindingResult bindingResult,
-                                      Principal principal,
+                                      @AuthenticationPrincipal AuthenticatedUser principal,
                                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("booking/create");
@@ -81,24 +80,22 @@ public class BookingController {
             return modelAndView;
         }
 
-        User user = userService.findByUsername(principal.getName());
-        bookingService.createBooking(user.getId(), createRequest);
+        bookingService.createBooking(principal.getId(), createRequest);
         redirectAttributes.addFlashAttribute("success", "Booking created successfully");
         return new ModelAndView("redirect:/bookings");
     }
 
+    @QueryBudget(3)
     @GetMapping("/{id}/edit")
-    public ModelAndView showEditForm(@PathVariable UUID id, Principal principal) {
-        BookingDetailsResponse booking = bookingService.getBookingDetails(id);
-        User user = userService.findByUsername(principal.getName());
-        
-        if (!booking.getUserId().equals(user.getId())) {
+    public ModelAndView showEditForm(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        Optional<BookingDetailsResponse> booking = bookingService.findBookingDetailsForUser(id, principal.getId());
+        if (booking.isEmpty()) {
             return new ModelAndView("redirect:/bookings");
         }
 
         BookingUpdateRequest updateRequest = new BookingUpdateRequest();
-        updateRequest.setStartAt(booking.getStartAt());
-        updateRequest.setEndAt(booking.getEndAt());
+        updateRequest.setStartAt(booking.get().getStartAt());
+        updateRequest.setEndAt(booking.get().getEndAt());
 
         ModelAndView modelAndView = new ModelAndView("booking/edit");
         modelAndView.addObject("updateRequest", updateRequest);
@@ -110,7 +107,7 @@ public class BookingController {
     public ModelAndView updateBooking(@PathVariable UUID id,
                                       @Valid @ModelAttribute BookingUpdateRequest updateRequest,
                                       BindingResult bindingResult,
-                                      Principal principal,
+                                      @AuthenticationPrincipal AuthenticatedUser principal,
                                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("booking/edit");
@@ -119,18 +116,16 @@ public class BookingController {
             return modelAndView;
         }
 
-        User user = userService.findByUsername(principal.getName());
-        bookingService.updateBooking(id, user.getId(), updateRequest);
+        bookingService.updateBooking(id, principal.getId(), updateRequest);
         redirectAttributes.addFlashAttribute("success", "Booking updated successfully");
         return new ModelAndView("redirect:/bookings/" + id);
     }
 
     @PostMapping("/{id}/cancel")
     public ModelAndView cancelBooking(@PathVariable UUID id,
-                                      Principal principal,
+                                      @AuthenticationPrincipal AuthenticatedUser principal,
                                       RedirectAttributes redirectAttributes) {
-        User user = userService.findByUsername(principal.getName());
-        bookingService.cancelBooking(id, user.getId());
+        bookingService.cancelBooking(id, principal.getId());
         redirectAttributes.addFlashAttribute("success", "Booking canceled successfully");
         return new ModelAndView("redirect:/bookings");
     }
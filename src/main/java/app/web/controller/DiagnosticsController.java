@@ -0,0 +1,36 @@
+package app.web.controller;
+
+import app.diagnostics.service.QueryDiagnosticsService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+@Controller
+@RequestMapping("/admin/diagnostics")
+@PreAuthorize("hasRole('ADMIN')")
+public class DiagnosticsController {
+
+    private final QueryDiagnosticsService queryDiagnosticsService;
+
+    public DiagnosticsController(QueryDiagnosticsService queryDiagnosticsService) {
+        this.queryDiagnosticsService = queryDiagnosticsService;
+    }
+
+    @GetMapping("/queries")
+    public ModelAndView queries() {
+        ModelAndView modelAndView = new ModelAndView("admin/queries");
+        modelAndView.addObject("endpoints", queryDiagnosticsService.getEndpoints());
+        return modelAndView;
+    }
+
+    @PostMapping("/queries/reset")
+    public ModelAndView resetQueries(RedirectAttributes redirectAttributes) {
+        queryDiagnosticsService.reset();
+        redirectAttributes.addFlashAttribute("success", "Query statistics reset");
+        return new ModelAndView("redirect:/admin/diagnostics/queries");
+    }
+}
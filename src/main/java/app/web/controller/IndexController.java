@@ -1,6 +1,8 @@
 package app.web.controller;
 
 import app.web.dto.UserRegisterRequest;
+import app.web.dto.UsernameAvailabilityResponse;
+import app.user.service.DuplicateUserException;
 import app.user.service.UserService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -10,6 +12,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
@@ -42,7 +46,7 @@ public class IndexController {
     }
 
     @PostMapping("/register")
-    public ModelAndView registerPost(@Valid @ModelAttribute UserRegisterRequest registerRequest,
+    public ModelAndView registerPost(@Valid @ModelAttribute("registerRequest") UserRegisterRequest registerRequest,
                                      BindingResult bindingResult,
                                      RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
@@ -56,6 +60,11 @@ public class IndexController {
             logger.info("User registered successfully: {}", registerRequest.getUsername());
             redirectAttributes.addFlashAttribute("success", "Registration successful! Please login.");
             return new ModelAndView("redirect:/login");
+        } catch (DuplicateUserException e) {
+            bindingResult.rejectValue(e.getField(), "duplicate", e.getMessage());
+            ModelAndView modelAndView = new ModelAndView("auth/register");
+            modelAndView.addObject("registerRequest", registerRequest);
+            return modelAndView;
         } catch (Exception e) {
             logger.error("Registration failed", e);
             ModelAndView modelAndView = new ModelAndView("auth/register");
@@ -64,5 +73,10 @@ public class IndexController {
             return modelAndView;
         }
     }
-}
 
+    @GetMapping("/register/check-username")
+    @ResponseBody
+    public UsernameAvailabilityResponse checkUsername(@RequestParam String username) {
+        return new UsernameAvailabilityResponse(username, userService.isUsernameAvailable(username));
+    }
+}
@@ -1,12 +1,18 @@
 package app.web.controller;
 
+import app.web.dto.PromoCodeBulkCreateRequest;
 import app.web.dto.PromoCodeCreateRequest;
 import app.web.dto.PromoCodeUpdateRequest;
 import app.promocode.model.PromoCode;
+import app.promocode.service.PromoCodeGeneratorService;
 import app.promocode.service.PromoCodeService;
+import app.promocode.service.PromoCodeUsageService;
+import app.user.model.AuthenticatedUser;
+import app.web.interceptor.QueryBudget;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,15 +29,23 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class PromoCodeController {
 
     private final PromoCodeService promoCodeService;
+    private final PromoCodeGeneratorService promoCodeGeneratorService;
+    private final PromoCodeUsageService promoCodeUsageService;
 
-    public PromoCodeController(PromoCodeService promoCodeService) {
+    public PromoCodeController(PromoCodeService promoCodeService,
+                               PromoCodeGeneratorService promoCodeGeneratorService,
+                               PromoCodeUsageService promoCodeUsageService) {
         this.promoCodeService = promoCodeService;
+        this.promoCodeGeneratorService = promoCodeGeneratorService;
+        this.promoCodeUsageService = promoCodeUsageService;
     }
 
+    @QueryBudget(1)
     @GetMapping
     public ModelAndView getAllPromoCodes() {
         ModelAndView modelAndView = new ModelAndView("promocode/list");
         modelAndView.addObject("promoCodes", promoCodeService.getAllPromoCodes());
+        modelAndView.addObject("generations", promoCodeGeneratorService.getRecentJobs());
         return modelAndView;
     }
 
@@ -40,6 +54,7 @@ public class PromoCodeController {
         PromoCode promoCode = promoCodeService.findById(id);
         ModelAndView modelAndView = new ModelAndView("promocode/details");
         modelAndView.addObject("promoCode", promoCode);
+        modelAndView.addObject("usage", promoCodeUsageService.getUsage(id));
         return modelAndView;
     }
 
@@ -65,6 +80,31 @@ public class PromoCodeController {
         return new ModelAndView("redirect:/promocodes");
     }
 
+    @GetMapping("/generate")
+    public ModelAndView showGenerateForm() {
+        PromoCodeBulkCreateRequest generateRequest = new PromoCodeBulkCreateRequest();
+        generateRequest.setCodeLength(8);
+        ModelAndView modelAndView = new ModelAndView("promocode/generate");
+        modelAndView.addObject("generateRequest", generateRequest);
+        return modelAndView;
+    }
+
+    @PostMapping("/generate")
+    public ModelAndView generatePromoCodes(@Valid @ModelAttribute("generateRequest") PromoCodeBulkCreateRequest generateRequest,
+                                          BindingResult bindingResult,
+                                          @AuthenticationPrincipal AuthenticatedUser principal,
+                                          RedirectAttributes redirectAttributes) {
+        if (bindingResult.hasErrors()) {
+            ModelAndView modelAndView = new ModelAndView("promocode/generate");
+            modelAndView.addObject("generateRequest", generateRequest);
+            return modelAndView;
+        }
+
+        promoCodeGeneratorService.startGeneration(generateRequest, principal.getUsername());
+        redirectAttributes.addFlashAttribute("success", "Generating " + generateRequest.getCount() + " promo codes");
+        return new ModelAndView("redirect:/promocodes");
+    }
+
     @GetMapping("/{id}/edit")
     public ModelAndView showEditForm(@PathVariable UUID id) {
         PromoCode promoCode = promoCodeService.findById(id);
@@ -0,0 +1,93 @@
+package app.web.controller;
+
+import app.report.model.ReportJob;
+import app.report.service.RevenueReportService;
+import app.user.model.AuthenticatedUser;
+import app.web.dto.ReportProgressResponse;
+import app.web.dto.RevenueReportRequest;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+@Controller
+@RequestMapping("/admin/reports")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReportController {
+
+    private final RevenueReportService revenueReportService;
+
+    public ReportController(RevenueReportService revenueReportService) {
+        this.revenueReportService = revenueReportService;
+    }
+
+    @GetMapping
+    public ModelAndView reports() {
+        LocalDate today = LocalDate.now();
+        LocalDate quarterStart = today.withMonth((today.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1);
+        RevenueReportRequest reportRequest = new RevenueReportRequest(quarterStart, quarterStart.plusMonths(3).minusDays(1));
+        return buildReportsView(reportRequest);
+    }
+
+    @PostMapping
+    public ModelAndView startReport(@Valid @ModelAttribute("reportRequest") RevenueReportRequest reportRequest,
+                                    BindingResult bindingResult,
+                                    @AuthenticationPrincipal AuthenticatedUser principal,
+                                    RedirectAttributes redirectAttributes) {
+        if (bindingResult.hasErrors()) {
+            return buildReportsView(reportRequest);
+        }
+
+        try {
+            ReportJob job = revenueReportService.startReport(reportRequest.getFrom(), reportRequest.getTo(), principal.getUsername());
+            return new ModelAndView("redirect:/admin/reports/" + job.getId());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return new ModelAndView("redirect:/admin/reports");
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ModelAndView report(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
+        Optional<ReportJob> found = revenueReportService.findJob(id);
+        if (found.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Report not found or expired");
+            return new ModelAndView("redirect:/admin/reports");
+        }
+
+        ReportJob job = found.get();
+        ModelAndView modelAndView = new ModelAndView("admin/report");
+        modelAndView.addObject("job", job);
+        modelAndView.addObject("progress", revenueReportService.getProgress(job));
+        modelAndView.addObject("report", job.getResult());
+        return modelAndView;
+    }
+
+    @GetMapping("/{id}/progress")
+    @ResponseBody
+    public ResponseEntity<ReportProgressResponse> progress(@PathVariable UUID id) {
+        return revenueReportService.findJob(id)
+                .map(job -> ResponseEntity.ok(revenueReportService.getProgress(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ModelAndView buildReportsView(RevenueReportRequest reportRequest) {
+        ModelAndView modelAndView = new ModelAndView("admin/reports");
+        modelAndView.addObject("reportRequest", reportRequest);
+        modelAndView.addObject("jobs", revenueReportService.getRecentJobs());
+        return modelAndView;
+    }
+}
@@ -1,12 +1,32 @@
 package app.web.controller;
 
+import app.booking.model.CanceledBooking;
+import app.booking.service.BulkCancellationService;
+import app.forecast.service.DemandForecastService;
+import app.room.service.RoomBlackoutService;
+import app.room.service.RoomCatalogCache;
+import app.room.service.RoomDeletionService;
+import app.user.model.AuthenticatedUser;
+import app.web.dto.BlackoutImpactResponse;
+import app.web.dto.RoomBlackoutCreateRequest;
+import app.web.dto.RoomBookingsCancelRequest;
 import app.web.dto.RoomCreateRequest;
 import app.web.dto.RoomDetailsResponse;
 import app.web.dto.RoomUpdateRequest;
 import app.room.service.RoomService;
+import app.web.interceptor.QueryBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,29 +36,53 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.ISpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
 @Controller
 @RequestMapping("/rooms")
 public class RoomController {
 
     private final RoomService roomService;
+    private final DemandForecastService demandForecastService;
+    private final RoomBlackoutService roomBlackoutService;
+    private final BulkCancellationService bulkCancellationService;
+    private final RoomDeletionService roomDeletionService;
+    private final RoomCatalogCache roomCatalogCache;
+    private final ISpringTemplateEngine templateEngine;
 
-    public RoomController(RoomService roomService) {
+    public RoomController(RoomService roomService,
+                          DemandForecastService demandForecastService,
+                          RoomBlackoutService roomBlackoutService,
+                          BulkCancellationService bulkCancellationService,
+                          RoomDeletionService roomDeletionService,
+                          RoomCatalogCache roomCatalogCache,
+                          ISpringTemplateEngine templateEngine) {
         this.roomService = roomService;
+        this.demandForecastService = demandForecastService;
+        this.roomBlackoutService = roomBlackoutService;
+        this.bulkCancellationService = bulkCancellationService;
+        this.roomDeletionService = roomDeletionService;
+        this.roomCatalogCache = roomCatalogCache;
+        this.templateEngine = templateEngine;
     }
 
+    @QueryBudget(1)
     @GetMapping
-    public ModelAndView getAllRooms() {
+    public ModelAndView getAllRooms(HttpServletRequest request, HttpServletResponse response, Locale locale) {
         ModelAndView modelAndView = new ModelAndView("room/list");
-        modelAndView.addObject("rooms", roomService.getVisibleRooms());
+        modelAndView.addObject("catalogHtml", roomCatalogCache.get(locale, () -> renderCatalog(request, response, locale)));
         return modelAndView;
     }
 
+    @QueryBudget(2)
     @GetMapping("/{id}")
     public ModelAndView getRoomDetails(@PathVariable UUID id) {
         RoomDetailsResponse room = roomService.getRoomDetails(id);
         ModelAndView modelAndView = new ModelAndView("room/details");
         modelAndView.addObject("room", room);
+        modelAndView.addObject("blackouts", roomBlackoutService.getUpcomingBlackouts(id));
         return modelAndView;
     }
 
@@ -111,11 +155,136 @@ public class RoomController {
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/delete")
+    public ModelAndView deleteRoom(@PathVariable UUID id,
+                                   @AuthenticationPrincipal AuthenticatedUser principal,
+                                   RedirectAttributes redirectAttributes) {
+        try {
+            roomDeletionService.deleteRoom(id, principal.getUsername());
+            redirectAttributes.addFlashAttribute("success", "Room deleted, its future bookings are being canceled");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return new ModelAndView("redirect:/rooms/admin/all");
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/blackouts")
+    public ModelAndView getBlackouts(@PathVariable UUID id) {
+        return buildBlackoutsView(id, new RoomBlackoutCreateRequest());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/blackouts")
+    public ModelAndView createBlackout(@PathVariable UUID id,
+                                       @Valid @ModelAttribute("createRequest") RoomBlackoutCreateRequest createRequest,
+                                       BindingResult bindingResult,
+                                       @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (bindingResult.hasErrors()) {
+            return buildBlackoutsView(id, createRequest);
+        }
+
+        try {
+            BlackoutImpactResponse impact = roomBlackoutService.createBlackout(id, createRequest, principal.getUsername());
+            ModelAndView modelAndView = buildBlackoutsView(id, new RoomBlackoutCreateRequest());
+            modelAndView.addObject("impact", impact);
+            modelAndView.addObject("success", "Blackout created, " + impact.getCanceledBookings() + " bookings canceled");
+            return modelAndView;
+        } catch (IllegalArgumentException e) {
+            ModelAndView modelAndView = buildBlackoutsView(id, createRequest);
+            modelAndView.addObject("error", e.getMessage());
+            return modelAndView;
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/blackouts/{blackoutId}/delete")
+    public ModelAndView deleteBlackout(@PathVariable UUID id,
+                                       @PathVariable UUID blackoutId,
+                                       RedirectAttributes redirectAttributes) {
+        try {
+            roomBlackoutService.deleteBlackout(id, blackoutId);
+            redirectAttributes.addFlashAttribute("success", "Blackout removed");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return new ModelAndView("redirect:/rooms/" + id + "/blackouts");
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/cancel-bookings")
+    public ModelAndView showCancelBookingsForm(@PathVariable UUID id) {
+        return buildCancelBookingsView(id, new RoomBookingsCancelRequest());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/cancel-bookings")
+    public ModelAndView cancelBookings(@PathVariable UUID id,
+                                       @Valid @ModelAttribute("cancelRequest") RoomBookingsCancelRequest cancelRequest,
+                                       BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return buildCancelBookingsView(id, cancelRequest);
+        }
+
+        try (Stream<CanceledBooking> canceled = bulkCancellationService.cancelRoomBookings(id,
+                cancelRequest.getFrom().atStartOfDay(), cancelRequest.getTo().plusDays(1).atStartOfDay(),
+                cancelRequest.getReason().trim())) {
+            List<CanceledBooking> canceledBookings = canceled.collect(Collectors.toList());
+            ModelAndView modelAndView = buildCancelBookingsView(id, cancelRequest);
+            modelAndView.addObject("canceledBookings", canceledBookings);
+            modelAndView.addObject("success", canceledBookings.size() + " bookings canceled");
+            return modelAndView;
+        } catch (IllegalArgumentException e) {
+            ModelAndView modelAndView = buildCancelBookingsView(id, cancelRequest);
+            modelAndView.addObject("error", e.getMessage());
+            return modelAndView;
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(2)
     @GetMapping("/admin/all")
     public ModelAndView getAllRoomsAdmin() {
         ModelAndView modelAndView = new ModelAndView("room/admin-list");
         modelAndView.addObject("rooms", roomService.getAllRooms());
+        modelAndView.addObject("forecasts", demandForecastService.getForecasts());
+        modelAndView.addObject("deletions", roomDeletionService.getRecentJobs());
+        modelAndView.addObject("forecastsUpdating", demandForecastService.isRunning());
         return modelAndView;
     }
-}
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/forecasts/refresh")
+    public ModelAndView refreshForecasts(@AuthenticationPrincipal AuthenticatedUser principal,
+                                         RedirectAttributes redirectAttributes) {
+        try {
+            demandForecastService.startUpdate(principal.getUsername());
+            redirectAttributes.addFlashAttribute("success", "Demand forecast update started");
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return new ModelAndView("redirect:/rooms/admin/all");
+    }
+
+    private ModelAndView buildBlackoutsView(UUID roomId, RoomBlackoutCreateRequest createRequest) {
+        ModelAndView modelAndView = new ModelAndView("room/blackouts");
+        modelAndView.addObject("room", roomService.getRoomDetails(roomId));
+        modelAndView.addObject("blackouts", roomBlackoutService.getUpcomingBlackouts(roomId));
+        modelAndView.addObject("createRequest", createRequest);
+        return modelAndView;
+    }
+
+    private ModelAndView buildCancelBookingsView(UUID roomId, RoomBookingsCancelRequest cancelRequest) {
+        ModelAndView modelAndView = new ModelAndView("room/cancel-bookings");
+        modelAndView.addObject("room", roomService.getRoomDetails(roomId));
+        modelAndView.addObject("cancelRequest", cancelRequest);
+        return modelAndView;
+    }
+
+    private String renderCatalog(HttpServletRequest request, HttpServletResponse response, Locale locale) {
+        WebContext context = new WebContext(
+                JakartaServletWebApplication.buildApplication(request.getServletContext()).buildExchange(request, response),
+                locale, Map.of("rooms", roomService.getVisibleRooms()));
+        return templateEngine.process("room/catalog", Set.of("catalog"), context);
+    }
+}
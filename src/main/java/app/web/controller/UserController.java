@@ -1,13 +1,16 @@
 package app.web.controller;
 
+import app.booking.service.UserBookingSummaryService;
 import app.web.dto.UserProfileResponse;
 import app.web.dto.UserUpdateRequest;
-import app.user.model.User;
+import app.user.model.AuthenticatedUser;
+import app.user.service.DuplicateUserException;
 import app.user.service.UserService;
+import app.web.interceptor.QueryBudget;
 import jakarta.validation.Valid;
-import java.security.Principal;
 import java.util.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,18 +26,21 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class UserController {
 
     private final UserService userService;
+    private final UserBookingSummaryService userBookingSummaryService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserBookingSummaryService userBookingSummaryService) {
         this.userService = userService;
+        this.userBookingSummaryService = userBookingSummaryService;
     }
 
+    @QueryBudget(5)
     @GetMapping("/profile")
-    public ModelAndView profile(Principal principal) {
-        User user = userService.findByUsername(principal.getName());
-        UserProfileResponse profile = userService.getProfile(user.getId());
+    public ModelAndView profile(@AuthenticationPrincipal AuthenticatedUser principal) {
+        UserProfileResponse profile = userService.getProfile(principal.getId());
         
         ModelAndView modelAndView = new ModelAndView("user/profile");
         modelAndView.addObject("profile", profile);
+        modelAndView.addObject("bookingSummary", userBookingSummaryService.getSummary(principal.getId()));
         
         UserUpdateRequest updateRequest = new UserUpdateRequest();
         updateRequest.setUsername(profile.getUsername());
@@ -47,23 +53,31 @@ public class UserController {
     @PostMapping("/profile")
     public ModelAndView updateProfile(@Valid @ModelAttribute UserUpdateRequest updateRequest,
                                       BindingResult bindingResult,
-                                      Principal principal,
+                                      @AuthenticationPrincipal AuthenticatedUser principal,
                                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
-            User user = userService.findByUsername(principal.getName());
-            UserProfileResponse profile = userService.getProfile(user.getId());
-            ModelAndView modelAndView = new ModelAndView("user/profile");
-            modelAndView.addObject("profile", profile);
-            modelAndView.addObject("updateRequest", updateRequest);
-            return modelAndView;
+            return profileForm(principal, updateRequest);
         }
 
-        User user = userService.findByUsername(principal.getName());
-        userService.updateProfile(user.getId(), updateRequest);
+        try {
+            userService.updateProfile(principal.getId(), updateRequest);
+        } catch (DuplicateUserException e) {
+            bindingResult.rejectValue(e.getField(), "duplicate", e.getMessage());
+            return profileForm(principal, updateRequest);
+        }
         redirectAttributes.addFlashAttribute("success", "Profile updated successfully");
         return new ModelAndView("redirect:/users/profile");
     }
 
+    private ModelAndView profileForm(AuthenticatedUser principal, UserUpdateRequest updateRequest) {
+        UserProfileResponse profile = userService.getProfile(principal.getId());
+        ModelAndView modelAndView = new ModelAndView("user/profile");
+        modelAndView.addObject("profile", profile);
+        modelAndView.addObject("bookingSummary", userBookingSummaryService.getSummary(principal.getId()));
+        modelAndView.addObject("updateRequest", updateRequest);
+        return modelAndView;
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/{id}")
     public ModelAndView getUserDetails(@PathVariable UUID id) {
@@ -0,0 +1,20 @@
+package app.web.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlackoutImpactResponse {
+
+    private RoomBlackoutResponse blackout;
+    private int canceledBookings;
+    private List<ImpactedUserResponse> impactedUsers;
+}
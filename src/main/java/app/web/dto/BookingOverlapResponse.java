@@ -0,0 +1,29 @@
+package app.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingOverlapResponse {
+
+    private String roomName;
+    private UUID firstBookingId;
+    private String firstUsername;
+    private LocalDateTime firstStartAt;
+    private LocalDateTime firstEndAt;
+    private UUID secondBookingId;
+    private String secondUsername;
+    private LocalDateTime secondStartAt;
+    private LocalDateTime secondEndAt;
+    private LocalDateTime overlapStart;
+    private LocalDateTime overlapEnd;
+}
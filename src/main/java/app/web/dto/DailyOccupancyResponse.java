@@ -0,0 +1,22 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyOccupancyResponse {
+
+    private LocalDate day;
+    private long bookings;
+    private BigDecimal revenue;
+    private double occupancyPercent;
+}
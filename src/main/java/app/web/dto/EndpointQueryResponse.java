@@ -0,0 +1,28 @@
+package app.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EndpointQueryResponse {
+
+    private String endpoint;
+    private long requests;
+    private double averageStatements;
+    private int maxStatements;
+    private Integer queryBudget;
+    private long overBudgetRequests;
+    private long repeatedSelectRequests;
+    private String repeatedSql;
+    private int repeatedCount;
+    private long slowStatementRequests;
+    private String slowSql;
+    private double slowMillis;
+}
@@ -0,0 +1,21 @@
+package app.web.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImpactedUserResponse {
+
+    private UUID userId;
+    private String username;
+    private String email;
+    private int canceledBookings;
+}
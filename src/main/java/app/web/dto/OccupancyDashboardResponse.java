@@ -0,0 +1,28 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupancyDashboardResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private UUID roomId;
+    private long totalBookings;
+    private BigDecimal totalRevenue;
+    private double occupancyPercent;
+    private List<DailyOccupancyResponse> days;
+    private List<RoomOccupancyResponse> rooms;
+}
@@ -0,0 +1,29 @@
+package app.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OverlapAuditResponse {
+
+    private boolean running;
+    private String requestedBy;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long scannedBookings;
+    private long scannedRooms;
+    private long overlapCount;
+    private boolean truncated;
+    private String error;
+    private List<RoomOverlapResponse> rooms;
+    private List<BookingOverlapResponse> overlaps;
+}
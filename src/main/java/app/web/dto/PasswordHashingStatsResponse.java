@@ -0,0 +1,27 @@
+package app.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordHashingStatsResponse {
+
+    private long hashes;
+    private double hashP50;
+    private double hashP95;
+    private double hashP99;
+    private long verifications;
+    private double verifyP50;
+    private double verifyP95;
+    private double verifyP99;
+    private int queued;
+    private int activeThreads;
+    private long rejected;
+}
@@ -0,0 +1,47 @@
+package app.web.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromoCodeBulkCreateRequest {
+
+    @Size(max = 8, message = "Prefix must not exceed 8 characters")
+    @Pattern(regexp = "[A-Z0-9]*", message = "Prefix may contain only uppercase letters and digits")
+    private String prefix;
+
+    @NotNull(message = "Number of codes is required")
+    @Min(value = 1, message = "Number of codes must be at least 1")
+    @Max(value = 100000, message = "Number of codes must be at most 100000")
+    private Integer count;
+
+    @NotNull(message = "Code length is required")
+    @Min(value = 6, message = "Code length must be at least 6")
+    @Max(value = 12, message = "Code length must be at most 12")
+    private Integer codeLength;
+
+    @NotNull(message = "Discount percent is required")
+    @Min(value = 1, message = "Discount percent must be at least 1")
+    @Max(value = 100, message = "Discount percent must be at most 100")
+    private Integer percent;
+
+    @NotNull(message = "Valid from date is required")
+    @Future(message = "Valid from date must be in the future")
+    private LocalDateTime validFrom;
+
+    @NotNull(message = "Valid to date is required")
+    @Future(message = "Valid to date must be in the future")
+    private LocalDateTime validTo;
+}
@@ -0,0 +1,24 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromoCodeRoomUsageResponse {
+
+    private UUID roomId;
+    private String roomName;
+    private long redemptions;
+    private BigDecimal grossRevenue;
+    private BigDecimal totalDiscount;
+    private int sharePercent;
+}
@@ -0,0 +1,25 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromoCodeUsageResponse {
+
+    private long redemptions;
+    private BigDecimal grossRevenue;
+    private BigDecimal totalDiscount;
+    private BigDecimal netRevenue;
+    private LocalDateTime updatedAt;
+    private List<PromoCodeRoomUsageResponse> rooms;
+}
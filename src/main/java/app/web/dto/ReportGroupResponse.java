@@ -0,0 +1,24 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportGroupResponse {
+
+    private String name;
+    private long bookings;
+    private BigDecimal grossRevenue;
+    private BigDecimal totalDiscount;
+    private BigDecimal netRevenue;
+    private long bookedHours;
+    private double utilizationPercent;
+}
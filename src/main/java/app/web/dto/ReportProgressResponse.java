@@ -0,0 +1,25 @@
+package app.web.dto;
+
+import app.report.model.ReportStatus;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportProgressResponse {
+
+    private UUID id;
+    private ReportStatus status;
+    private long processedRows;
+    private long totalRows;
+    private int percent;
+    private long elapsedMillis;
+    private String error;
+}
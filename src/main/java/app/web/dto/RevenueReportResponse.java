@@ -0,0 +1,25 @@
+package app.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueReportResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long rowsProcessed;
+    private ReportGroupResponse total;
+    private List<ReportGroupResponse> rooms;
+    private List<ReportGroupResponse> locations;
+    private List<ReportGroupResponse> promoCodes;
+}
@@ -0,0 +1,29 @@
+package app.web.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomBlackoutCreateRequest {
+
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startAt;
+
+    @NotNull(message = "End time is required")
+    @Future(message = "End time must be in the future")
+    private LocalDateTime endAt;
+
+    @NotBlank(message = "Reason is required")
+    @Size(max = 200, message = "Reason must not exceed 200 characters")
+    private String reason;
+}
@@ -0,0 +1,24 @@
+package app.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomBlackoutResponse {
+
+    private UUID id;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private String reason;
+    private String createdBy;
+    private LocalDateTime createdAt;
+}
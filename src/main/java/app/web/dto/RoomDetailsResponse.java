@@ -24,5 +24,6 @@ public class RoomDetailsResponse {
     private String description;
     private Boolean visible;
     private LocalDateTime createdAt;
+    private String imageUrl;
 }
 
@@ -0,0 +1,24 @@
+package app.web.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomForecastResponse {
+
+    private UUID roomId;
+    private double occupancyPercent;
+    private String peakSlot;
+    private double peakOccupancyPercent;
+    private int observedDays;
+    private LocalDate processedThrough;
+}
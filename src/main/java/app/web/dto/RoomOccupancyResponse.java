@@ -0,0 +1,23 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomOccupancyResponse {
+
+    private UUID roomId;
+    private String roomName;
+    private long bookings;
+    private BigDecimal revenue;
+    private double occupancyPercent;
+}
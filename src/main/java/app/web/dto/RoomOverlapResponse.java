@@ -0,0 +1,20 @@
+package app.web.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomOverlapResponse {
+
+    private UUID roomId;
+    private String roomName;
+    private long overlaps;
+}
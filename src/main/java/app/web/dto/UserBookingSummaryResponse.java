@@ -0,0 +1,23 @@
+package app.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBookingSummaryResponse {
+
+    private long totalBookings;
+    private long upcomingBookings;
+    private BigDecimal totalSpent;
+    private BigDecimal promoSavings;
+    private LocalDateTime nextStartAt;
+}
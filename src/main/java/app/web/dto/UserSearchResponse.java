@@ -0,0 +1,24 @@
+package app.web.dto;
+
+import app.user.model.UserSummary;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchResponse {
+
+    private List<UserSummary> users;
+    private int size;
+    private String sort;
+    private String direction;
+    private String nextCursor;
+    private String previousCursor;
+}
@@ -0,0 +1,16 @@
+package app.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsernameAvailabilityResponse {
+
+    private String username;
+    private boolean available;
+}
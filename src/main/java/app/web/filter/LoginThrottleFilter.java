@@ -0,0 +1,47 @@
+package app.web.filter;
+
+import app.user.service.LoginAttemptThrottle;
+import app.user.service.LoginMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottleFilter.class);
+    private static final RequestMatcher LOGIN_REQUEST = new AntPathRequestMatcher("/login", "POST");
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final LoginMetrics loginMetrics;
+
+    public LoginThrottleFilter(LoginAttemptThrottle loginAttemptThrottle, LoginMetrics loginMetrics) {
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.loginMetrics = loginMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LOGIN_REQUEST.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String username = request.getParameter("username");
+        if (loginAttemptThrottle.isBlocked(username, request.getRemoteAddr())) {
+            logger.warn("Login throttled for username: {} from address: {}", username, request.getRemoteAddr());
+            loginMetrics.recordThrottled();
+            response.sendRedirect(request.getContextPath() + "/login?throttled=true");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,81 @@
+package app.web.filter;
+
+import app.user.model.AuthenticatedUser;
+import app.user.service.PrincipalRefreshRegistry;
+import app.user.service.impl.UserDetailsServiceImpl;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class PrincipalRefreshFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalRefreshFilter.class);
+    private final PrincipalRefreshRegistry principalRefreshRegistry;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final SecurityContextRepository securityContextRepository;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    public PrincipalRefreshFilter(PrincipalRefreshRegistry principalRefreshRegistry,
+                                  UserDetailsServiceImpl userDetailsService,
+                                  SecurityContextRepository securityContextRepository) {
+        this.principalRefreshRegistry = principalRefreshRegistry;
+        this.userDetailsService = userDetailsService;
+        this.securityContextRepository = securityContextRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = securityContextHolderStrategy.getContext().getAuthentication();
+        HttpSession session = request.getSession(false);
+        if (session != null && authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            Object change = principalRefreshRegistry.pendingChange(session);
+            if (change != null) {
+                refresh(principal, authentication, session, change, request, response);
+            } else if (!principalRefreshRegistry.isTracked(session, principal.getId())) {
+                principalRefreshRegistry.trackSession(session, principal.getId());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void refresh(AuthenticatedUser principal,
+                         Authentication authentication,
+                         HttpSession session,
+                         Object change,
+                         HttpServletRequest request,
+                         HttpServletResponse response) {
+        try {
+            AuthenticatedUser refreshed = userDetailsService.loadUserById(principal.getId());
+            refreshed.eraseCredentials();
+            UsernamePasswordAuthenticationToken refreshedAuthentication =
+                    UsernamePasswordAuthenticationToken.authenticated(refreshed, null, refreshed.getAuthorities());
+            refreshedAuthentication.setDetails(authentication.getDetails());
+
+            SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+            context.setAuthentication(refreshedAuthentication);
+            securityContextHolderStrategy.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+            principalRefreshRegistry.markRefreshed(session, change);
+            logger.debug("Refreshed principal for user ID: {}", principal.getId());
+        } catch (UsernameNotFoundException e) {
+            logger.info("Signing out user ID: {} ({})", principal.getId(), e.getMessage());
+            securityContextHolderStrategy.clearContext();
+            session.invalidate();
+        }
+    }
+}
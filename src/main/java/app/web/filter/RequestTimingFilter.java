@@ -0,0 +1,124 @@
+package app.web.filter;
+
+import app.diagnostics.service.QueryDiagnosticsService;
+import app.util.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestTimingFilter.class);
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean headerEnabled;
+    private final long slowThresholdNanos;
+    private final int responseBufferSize;
+    private final QueryDiagnosticsService queryDiagnosticsService;
+
+    public RequestTimingFilter(boolean headerEnabled, Duration slowThreshold, int responseBufferSize,
+                               QueryDiagnosticsService queryDiagnosticsService) {
+        this.headerEnabled = headerEnabled;
+        this.queryDiagnosticsService = queryDiagnosticsService;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.responseBufferSize = responseBufferSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        HttpServletResponse timedResponse = response;
+        if (headerEnabled) {
+            if (response.getBufferSize() < responseBufferSize) {
+                response.setBufferSize(responseBufferSize);
+            }
+            timedResponse = new ServerTimingResponse(response, timing);
+        }
+
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            RequestTiming.clear();
+            if (headerEnabled && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timing.toServerTimingHeader());
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                queryDiagnosticsService.record(request.getMethod(), pattern.toString(), timing);
+            }
+            long totalNanos = timing.totalNanos();
+            if (totalNanos >= slowThresholdNanos) {
+                logger.warn("Slow request method={} uri={} status={} total_ms={} db_ms={} db_statements={} service_ms={} view_ms={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), totalNanos / 1_000_000,
+                        timing.dbNanos() / 1_000_000, timing.dbStatements(), timing.serviceNanos() / 1_000_000,
+                        timing.viewNanos() / 1_000_000);
+            }
+        }
+    }
+
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private PrintWriter writer;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(super.getWriter()) {
+                    @Override
+                    public void flush() {
+                        writeHeader();
+                        super.flush();
+                    }
+                };
+            }
+            return writer;
+        }
+
+        private void writeHeader() {
+            if (!isCommitted()) {
+                setHeader(SERVER_TIMING, timing.toServerTimingHeader());
+            }
+        }
+    }
+}
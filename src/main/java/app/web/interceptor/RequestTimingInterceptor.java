@@ -0,0 +1,55 @@
+package app.web.interceptor;
+
+import app.util.RequestTiming;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Comparator;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    private final boolean enforceQueryBudgets;
+
+    public RequestTimingInterceptor(boolean enforceQueryBudgets) {
+        this.enforceQueryBudgets = enforceQueryBudgets;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(QueryBudget.class)) {
+                timing.setQueryBudget(handlerMethod.getMethodAnnotation(QueryBudget.class).value());
+            }
+            timing.handlerStarted();
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return;
+        }
+        timing.handlerEnded();
+        if (enforceQueryBudgets && timing.getQueryBudget() >= 0 && timing.handlerStatements() > timing.getQueryBudget()) {
+            String mostRepeated = timing.statementStats().entrySet().stream()
+                    .max(Comparator.comparingInt(entry -> entry.getValue().getCount()))
+                    .map(entry -> entry.getValue().getCount() + "x " + entry.getKey())
+                    .orElse("none");
+            throw new QueryBudgetExceededException(String.format("%s %s ran %d statements, budget is %d; most repeated: %s",
+                    request.getMethod(), request.getRequestURI(), timing.handlerStatements(), timing.getQueryBudget(), mostRepeated));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.viewEnded();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package app;
+
+import app.promocode.model.PromoCode;
+import app.room.model.Room;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.model.UserStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User.UserBuilder user(String usernamePrefix) {
+        return User.builder()
+                .username(usernamePrefix + "-" + UUID.randomUUID().toString().substring(0, 8))
+                .email(UUID.randomUUID() + "@example.com")
+                .password("password")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .createdAt(LocalDateTime.now());
+    }
+
+    public static Room.RoomBuilder room(String namePrefix) {
+        return Room.builder()
+                .name(namePrefix + " Room " + UUID.randomUUID())
+                .location("Test Wing")
+                .capacity(4)
+                .basePricePerHour(new BigDecimal("100.00"))
+                .visible(true)
+                .createdAt(LocalDateTime.now());
+    }
+
+    public static PromoCode.PromoCodeBuilder promoCode(String codePrefix) {
+        return PromoCode.builder()
+                .code(codePrefix + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT))
+                .percent(10)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(365))
+                .active(true)
+                .createdAt(LocalDateTime.now());
+    }
+}
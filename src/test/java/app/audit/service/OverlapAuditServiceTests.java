@@ -0,0 +1,117 @@
+package app.audit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import app.TestFixtures;
+import app.booking.model.Booking;
+import app.booking.model.BookingStatus;
+import app.booking.repository.BookingRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingOverlapResponse;
+import app.web.dto.OverlapAuditResponse;
+import app.web.dto.RoomOverlapResponse;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OverlapAuditServiceTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+
+    @Autowired
+    private OverlapAuditService overlapAuditService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Room room;
+    private Room otherRoom;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.user("audit").build());
+        room = saveRoom();
+        otherRoom = saveRoom();
+    }
+
+    @Test
+    void reportsEveryOverlappingPairInARoomButNotTouchingOnes() {
+        Booking first = save(room, DAY.plusHours(9), DAY.plusHours(11), BookingStatus.CONFIRMED);
+        Booking second = save(room, DAY.plusHours(10), DAY.plusHours(12), BookingStatus.CONFIRMED);
+        Booking nested = save(room, DAY.plusHours(10).plusMinutes(30), DAY.plusHours(10).plusMinutes(45), BookingStatus.PENDING);
+        Booking touching = save(room, DAY.plusHours(11), DAY.plusHours(13), BookingStatus.CONFIRMED);
+
+        OverlapAuditResponse audit = audit();
+
+        assertThat(audit.getRooms())
+                .filteredOn(roomOverlaps -> roomOverlaps.getRoomId().equals(room.getId()))
+                .singleElement()
+                .satisfies(roomOverlaps -> assertThat(roomOverlaps.getOverlaps()).isEqualTo(4));
+        assertThat(audit.getOverlaps())
+                .filteredOn(overlap -> overlap.getRoomName().equals(room.getName()))
+                .extracting(BookingOverlapResponse::getFirstBookingId, BookingOverlapResponse::getSecondBookingId,
+                        BookingOverlapResponse::getOverlapStart, BookingOverlapResponse::getOverlapEnd)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), second.getId(), second.getStartAt(), first.getEndAt()),
+                        tuple(first.getId(), nested.getId(), nested.getStartAt(), nested.getEndAt()),
+                        tuple(second.getId(), nested.getId(), nested.getStartAt(), nested.getEndAt()),
+                        tuple(second.getId(), touching.getId(), touching.getStartAt(), second.getEndAt()));
+    }
+
+    @Test
+    void ignoresCanceledBookingsAndOtherRooms() {
+        save(room, DAY.plusHours(9), DAY.plusHours(11), BookingStatus.CONFIRMED);
+        save(room, DAY.plusHours(10), DAY.plusHours(12), BookingStatus.CANCELED);
+        save(otherRoom, DAY.plusHours(10), DAY.plusHours(12), BookingStatus.CONFIRMED);
+
+        OverlapAuditResponse audit = audit();
+
+        assertThat(audit.getRooms())
+                .extracting(RoomOverlapResponse::getRoomId)
+                .doesNotContain(room.getId(), otherRoom.getId());
+    }
+
+    private OverlapAuditResponse audit() {
+        entityManager.flush();
+        entityManager.clear();
+        overlapAuditService.scheduledAudit();
+        OverlapAuditResponse audit = overlapAuditService.getLatestAudit().orElseThrow();
+        assertThat(audit.isRunning()).isFalse();
+        assertThat(audit.getError()).isNull();
+        return audit;
+    }
+
+    private Booking save(Room bookedRoom, LocalDateTime startAt, LocalDateTime endAt, BookingStatus status) {
+        return bookingRepository.save(Booking.builder()
+                .user(user)
+                .room(bookedRoom)
+                .startAt(startAt)
+                .endAt(endAt)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Room saveRoom() {
+        return roomRepository.save(TestFixtures.room("Audit").build());
+    }
+}
@@ -0,0 +1,118 @@
+package app.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.TestFixtures;
+import app.booking.model.CanceledBooking;
+import app.booking.model.RoomDailyStats;
+import app.booking.repository.RoomDailyStatsRepository;
+import app.promocode.model.PromoCode;
+import app.promocode.repository.PromoCodeRepository;
+import app.promocode.service.PromoCodeUsageService;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingCreateRequest;
+import app.web.dto.PromoCodeUsageResponse;
+import app.web.dto.UserBookingSummaryResponse;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class BulkCancellationServiceTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BulkCancellationService bulkCancellationService;
+    @Autowired
+    private PromoCodeUsageService promoCodeUsageService;
+    @Autowired
+    private UserBookingSummaryService userBookingSummaryService;
+    @Autowired
+    private RoomDailyStatsRepository roomDailyStatsRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private PromoCodeRepository promoCodeRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User otherUser;
+    private Room room;
+    private PromoCode promoCode;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser();
+        otherUser = saveUser();
+        room = roomRepository.save(TestFixtures.room("Bulk").build());
+        promoCode = promoCodeRepository.save(TestFixtures.promoCode("BULK").build());
+    }
+
+    @Test
+    void cancelingARangeRemovesEveryBookingFromTheRollups() {
+        book(user, DAY.plusHours(9), DAY.plusHours(11), promoCode.getCode());
+        book(user, DAY.plusHours(22), DAY.plusDays(1).plusHours(2), promoCode.getCode());
+        book(otherUser, DAY.plusDays(1).plusHours(9), DAY.plusDays(1).plusHours(10), null);
+        book(user, DAY.plusDays(5).plusHours(9), DAY.plusDays(5).plusHours(10), promoCode.getCode());
+
+        List<CanceledBooking> canceled = bulkCancellationService
+                .cancelRoomBookings(room.getId(), DAY, DAY.plusDays(2), "Maintenance")
+                .toList();
+
+        assertThat(canceled).hasSize(3);
+        entityManager.flush();
+        entityManager.clear();
+
+        PromoCodeUsageResponse usage = promoCodeUsageService.getUsage(promoCode.getId());
+        assertThat(usage.getRedemptions()).isEqualTo(1);
+        assertThat(usage.getGrossRevenue()).isEqualByComparingTo("100.00");
+        assertThat(usage.getRooms()).singleElement()
+                .satisfies(roomUsage -> assertThat(roomUsage.getRedemptions()).isEqualTo(1));
+
+        UserBookingSummaryResponse summary = userBookingSummaryService.getSummary(user.getId());
+        assertThat(summary.getTotalBookings()).isEqualTo(1);
+        assertThat(summary.getUpcomingBookings()).isEqualTo(1);
+        assertThat(summary.getNextStartAt()).isEqualTo(DAY.plusDays(5).plusHours(9));
+        assertThat(userBookingSummaryService.getSummary(otherUser.getId()).getTotalBookings()).isZero();
+
+        assertThat(roomDailyStatsRepository.findAllByDayBetween(DAY.toLocalDate(), DAY.plusDays(1).toLocalDate()))
+                .filteredOn(stats -> stats.getRoom().getId().equals(room.getId()))
+                .hasSize(2)
+                .allSatisfy(stats -> {
+                    assertThat(stats.getBookings()).isZero();
+                    assertThat(stats.getBookedMinutes()).isZero();
+                    assertThat(stats.getRevenue()).isEqualByComparingTo("0");
+                });
+        assertThat(roomDailyStatsRepository.findAllByDayBetween(DAY.plusDays(5).toLocalDate(), DAY.plusDays(5).toLocalDate()))
+                .filteredOn(stats -> stats.getRoom().getId().equals(room.getId()))
+                .singleElement()
+                .extracting(RoomDailyStats::getBookings)
+                .isEqualTo(1L);
+    }
+
+    private void book(User booker, LocalDateTime startAt, LocalDateTime endAt, String code) {
+        bookingService.createBooking(booker.getId(), new BookingCreateRequest(room.getId(), startAt, endAt, code));
+    }
+
+    private User saveUser() {
+        return userRepository.save(TestFixtures.user("bulk").build());
+    }
+}
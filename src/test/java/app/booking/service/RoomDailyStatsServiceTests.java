@@ -0,0 +1,128 @@
+package app.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.TestFixtures;
+import app.booking.model.Booking;
+import app.booking.model.RoomDailyStats;
+import app.booking.repository.RoomDailyStatsRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingCreateRequest;
+import app.web.dto.BookingUpdateRequest;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RoomDailyStatsServiceTests {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private RoomDailyStatsService roomDailyStatsService;
+    @Autowired
+    private RoomDailyStatsRepository roomDailyStatsRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.user("stats").build());
+        room = roomRepository.save(TestFixtures.room("Stats").build());
+    }
+
+    @Test
+    void creationCountsBookingOnStartDayAndMinutesOnEveryDay() {
+        book(DAY.atTime(10, 0), DAY.atTime(12, 0));
+        book(DAY.atTime(22, 0), DAY.plusDays(1).atTime(1, 0));
+
+        Map<LocalDate, RoomDailyStats> stats = stats();
+        assertThat(stats.get(DAY).getBookings()).isEqualTo(2);
+        assertThat(stats.get(DAY).getBookedMinutes()).isEqualTo(240);
+        assertThat(stats.get(DAY).getRevenue()).isEqualByComparingTo("500.00");
+        assertThat(stats.get(DAY.plusDays(1)).getBookings()).isZero();
+        assertThat(stats.get(DAY.plusDays(1)).getBookedMinutes()).isEqualTo(60);
+    }
+
+    @Test
+    void reschedulingMovesTheBookingBetweenDays() {
+        Booking booking = book(DAY.atTime(10, 0), DAY.atTime(12, 0));
+        book(DAY.atTime(14, 0), DAY.atTime(15, 0));
+
+        bookingService.updateBooking(booking.getId(), user.getId(),
+                new BookingUpdateRequest(DAY.plusDays(2).atTime(9, 0), DAY.plusDays(2).atTime(12, 0)));
+
+        Map<LocalDate, RoomDailyStats> stats = stats();
+        assertThat(stats.get(DAY).getBookings()).isEqualTo(1);
+        assertThat(stats.get(DAY).getBookedMinutes()).isEqualTo(60);
+        assertThat(stats.get(DAY).getRevenue()).isEqualByComparingTo("100.00");
+        assertThat(stats.get(DAY.plusDays(2)).getBookings()).isEqualTo(1);
+        assertThat(stats.get(DAY.plusDays(2)).getBookedMinutes()).isEqualTo(180);
+        assertThat(stats.get(DAY.plusDays(2)).getRevenue()).isEqualByComparingTo("300.00");
+    }
+
+    @Test
+    void cancellationSubtractsTheBooking() {
+        book(DAY.atTime(10, 0), DAY.atTime(12, 0));
+        Booking canceled = book(DAY.atTime(14, 0), DAY.atTime(15, 0));
+
+        bookingService.cancelBooking(canceled.getId(), user.getId());
+
+        RoomDailyStats stats = stats().get(DAY);
+        assertThat(stats.getBookings()).isEqualTo(1);
+        assertThat(stats.getBookedMinutes()).isEqualTo(120);
+        assertThat(stats.getRevenue()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    void reconcileCorrectsDriftedAndMissingRows() {
+        book(DAY.atTime(10, 0), DAY.atTime(12, 0));
+        book(DAY.plusDays(1).atTime(10, 0), DAY.plusDays(1).atTime(11, 0));
+        roomDailyStatsRepository.increment(room.getId(), DAY, 3, 500, new BigDecimal("999.00"), LocalDateTime.now());
+        roomDailyStatsRepository.delete(stats().get(DAY.plusDays(1)));
+
+        roomDailyStatsService.reconcile(DAY.minusDays(1), DAY.plusDays(2));
+
+        Map<LocalDate, RoomDailyStats> stats = stats();
+        assertThat(stats.get(DAY).getBookings()).isEqualTo(1);
+        assertThat(stats.get(DAY).getBookedMinutes()).isEqualTo(120);
+        assertThat(stats.get(DAY).getRevenue()).isEqualByComparingTo("200.00");
+        assertThat(stats.get(DAY.plusDays(1)).getBookings()).isEqualTo(1);
+        assertThat(stats.get(DAY.plusDays(1)).getBookedMinutes()).isEqualTo(60);
+    }
+
+    private Booking book(LocalDateTime startAt, LocalDateTime endAt) {
+        return bookingService.createBooking(user.getId(), new BookingCreateRequest(room.getId(), startAt, endAt, null));
+    }
+
+    private Map<LocalDate, RoomDailyStats> stats() {
+        entityManager.flush();
+        entityManager.clear();
+        return roomDailyStatsRepository.findAllByDayBetween(DAY.minusDays(1), DAY.plusDays(3)).stream()
+                .filter(stats -> stats.getRoom().getId().equals(room.getId()))
+                .collect(Collectors.toMap(RoomDailyStats::getDay, stats -> stats));
+    }
+}
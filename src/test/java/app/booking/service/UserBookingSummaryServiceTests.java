@@ -0,0 +1,142 @@
+package app.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.TestFixtures;
+import app.booking.model.Booking;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingCreateRequest;
+import app.web.dto.BookingUpdateRequest;
+import app.web.dto.UserBookingSummaryResponse;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserBookingSummaryServiceTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private UserBookingSummaryService userBookingSummaryService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.user("summary").build());
+        room = roomRepository.save(TestFixtures.room("Summary").build());
+    }
+
+    @Test
+    void creationAddsToTotalsAndSetsNextBooking() {
+        book(DAY.plusDays(2), 2);
+        book(DAY, 1);
+
+        UserBookingSummaryResponse summary = summary();
+        assertThat(summary.getTotalBookings()).isEqualTo(2);
+        assertThat(summary.getUpcomingBookings()).isEqualTo(2);
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("300.00");
+        assertThat(summary.getNextStartAt()).isEqualTo(DAY.withHour(10));
+    }
+
+    @Test
+    void cancelingTheNextBookingMovesNextToTheFollowingOne() {
+        Booking next = book(DAY, 1);
+        book(DAY.plusDays(2), 2);
+
+        bookingService.cancelBooking(next.getId(), user.getId());
+
+        UserBookingSummaryResponse summary = summary();
+        assertThat(summary.getTotalBookings()).isEqualTo(1);
+        assertThat(summary.getUpcomingBookings()).isEqualTo(1);
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("200.00");
+        assertThat(summary.getNextStartAt()).isEqualTo(DAY.plusDays(2).withHour(10));
+    }
+
+    @Test
+    void cancelingTheOnlyBookingClearsNext() {
+        Booking only = book(DAY, 1);
+
+        bookingService.cancelBooking(only.getId(), user.getId());
+
+        UserBookingSummaryResponse summary = summary();
+        assertThat(summary.getTotalBookings()).isZero();
+        assertThat(summary.getUpcomingBookings()).isZero();
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("0");
+        assertThat(summary.getNextStartAt()).isNull();
+    }
+
+    @Test
+    void movingTheNextBookingLaterRecomputesNext() {
+        Booking next = book(DAY, 1);
+        book(DAY.plusDays(2), 1);
+
+        LocalDateTime movedTo = DAY.plusDays(5).withHour(10);
+        bookingService.updateBooking(next.getId(), user.getId(), new BookingUpdateRequest(movedTo, movedTo.plusHours(3)));
+
+        UserBookingSummaryResponse summary = summary();
+        assertThat(summary.getTotalBookings()).isEqualTo(2);
+        assertThat(summary.getTotalSpent()).isEqualByComparingTo("400.00");
+        assertThat(summary.getNextStartAt()).isEqualTo(DAY.plusDays(2).withHour(10));
+    }
+
+    @Test
+    void movingAnotherBookingEarlierBecomesNext() {
+        book(DAY.plusDays(2), 1);
+        Booking later = book(DAY.plusDays(4), 1);
+
+        LocalDateTime movedTo = DAY.withHour(10);
+        bookingService.updateBooking(later.getId(), user.getId(), new BookingUpdateRequest(movedTo, movedTo.plusHours(1)));
+
+        assertThat(summary().getNextStartAt()).isEqualTo(movedTo);
+    }
+
+    @Test
+    void rebuildMatchesIncrementalSummary() {
+        book(DAY, 1);
+        Booking canceled = book(DAY.plusDays(1), 2);
+        book(DAY.plusDays(3), 3);
+        bookingService.cancelBooking(canceled.getId(), user.getId());
+        UserBookingSummaryResponse incremental = summary();
+
+        userBookingSummaryService.rebuildSummary(user);
+
+        UserBookingSummaryResponse rebuilt = summary();
+        assertThat(rebuilt.getTotalBookings()).isEqualTo(incremental.getTotalBookings());
+        assertThat(rebuilt.getUpcomingBookings()).isEqualTo(incremental.getUpcomingBookings());
+        assertThat(rebuilt.getTotalSpent()).isEqualByComparingTo(incremental.getTotalSpent());
+        assertThat(rebuilt.getNextStartAt()).isEqualTo(incremental.getNextStartAt());
+    }
+
+    private Booking book(LocalDateTime day, int hours) {
+        LocalDateTime startAt = day.withHour(10);
+        return bookingService.createBooking(user.getId(), new BookingCreateRequest(room.getId(), startAt, startAt.plusHours(hours), null));
+    }
+
+    private UserBookingSummaryResponse summary() {
+        entityManager.flush();
+        entityManager.clear();
+        return userBookingSummaryService.getSummary(user.getId());
+    }
+}
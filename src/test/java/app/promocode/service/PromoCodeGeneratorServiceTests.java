@@ -0,0 +1,73 @@
+package app.promocode.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.promocode.model.PromoCodeGenerationJob;
+import app.promocode.model.PromoCodeGenerationStatus;
+import app.web.dto.PromoCodeBulkCreateRequest;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PromoCodeGeneratorServiceTests {
+
+    private static final LocalDateTime VALID_FROM = LocalDateTime.now().plusDays(1);
+
+    @Autowired
+    private PromoCodeGeneratorService promoCodeGeneratorService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String prefix = "G" + UUID.randomUUID().toString().replace("-", "").substring(0, 7).toUpperCase();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from promo_code where code like ?", prefix + "%");
+    }
+
+    @Test
+    void generatesCodesInTheBackgroundAndCommitsEachChunk() throws InterruptedException {
+        PromoCodeGenerationJob job = promoCodeGeneratorService.startGeneration(request(2500), "admin");
+
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(PromoCodeGenerationStatus.COMPLETED);
+        assertThat(job.getCreatedCodes().get()).isEqualTo(2500);
+        assertThat(job.getPercent()).isEqualTo(100);
+        assertThat(countCodes()).isEqualTo(2500);
+        assertThat(promoCodeGeneratorService.getRecentJobs()).contains(job);
+    }
+
+    @Test
+    void rejectsInvalidDateRangeBeforeQueueing() {
+        PromoCodeBulkCreateRequest request = request(10);
+        request.setValidTo(request.getValidFrom());
+
+        assertThatThrownBy(() -> promoCodeGeneratorService.startGeneration(request, "admin"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(countCodes()).isZero();
+    }
+
+    private PromoCodeBulkCreateRequest request(int count) {
+        return new PromoCodeBulkCreateRequest(prefix, count, 8, 10, VALID_FROM, VALID_FROM.plusDays(30));
+    }
+
+    private Integer countCodes() {
+        return jdbcTemplate.queryForObject("select count(*) from promo_code where code like ?", Integer.class, prefix + "%");
+    }
+
+    private static void awaitFinished(PromoCodeGenerationJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
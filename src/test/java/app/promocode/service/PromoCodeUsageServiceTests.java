@@ -0,0 +1,151 @@
+package app.promocode.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.TestFixtures;
+import app.booking.model.Booking;
+import app.booking.service.BookingService;
+import app.promocode.model.PromoCode;
+import app.promocode.repository.PromoCodeRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingCreateRequest;
+import app.web.dto.BookingUpdateRequest;
+import app.web.dto.PromoCodeRoomUsageResponse;
+import app.web.dto.PromoCodeUsageResponse;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PromoCodeUsageServiceTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private PromoCodeUsageService promoCodeUsageService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private PromoCodeRepository promoCodeRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Room room;
+    private Room otherRoom;
+    private PromoCode promoCode;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.user("promo").build());
+        room = saveRoom(new BigDecimal("100.00"));
+        otherRoom = saveRoom(new BigDecimal("50.00"));
+        promoCode = promoCodeRepository.save(TestFixtures.promoCode("TEST").build());
+    }
+
+    @Test
+    void firstRedemptionCreatesCodeAndRoomRollups() {
+        book(room, 10, 12);
+
+        PromoCodeUsageResponse usage = usage();
+        assertThat(usage.getRedemptions()).isEqualTo(1);
+        assertThat(usage.getGrossRevenue()).isEqualByComparingTo("200.00");
+        assertThat(usage.getTotalDiscount()).isEqualByComparingTo("20.00");
+        assertThat(usage.getRooms()).singleElement()
+                .satisfies(roomUsage -> assertThat(roomUsage.getRedemptions()).isEqualTo(1));
+    }
+
+    @Test
+    void laterRedemptionsIncrementExistingRowsAndAddNewRooms() {
+        book(room, 10, 12);
+        book(room, 14, 15);
+        book(otherRoom, 10, 11);
+
+        PromoCodeUsageResponse usage = usage();
+        assertThat(usage.getRedemptions()).isEqualTo(3);
+        assertThat(usage.getGrossRevenue()).isEqualByComparingTo("350.00");
+        assertThat(usage.getTotalDiscount()).isEqualByComparingTo("35.00");
+        assertThat(roomUsage(usage, room).getRedemptions()).isEqualTo(2);
+        assertThat(roomUsage(usage, room).getGrossRevenue()).isEqualByComparingTo("300.00");
+        assertThat(roomUsage(usage, otherRoom).getRedemptions()).isEqualTo(1);
+    }
+
+    @Test
+    void reschedulingAppliesThePriceDifference() {
+        Booking booking = book(room, 10, 11);
+
+        bookingService.updateBooking(booking.getId(), user.getId(), new BookingUpdateRequest(DAY.withHour(10), DAY.withHour(13)));
+
+        PromoCodeUsageResponse usage = usage();
+        assertThat(usage.getRedemptions()).isEqualTo(1);
+        assertThat(usage.getGrossRevenue()).isEqualByComparingTo("300.00");
+        assertThat(usage.getTotalDiscount()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    void cancellationRemovesTheRedemption() {
+        book(room, 10, 12);
+        Booking canceled = book(room, 14, 15);
+
+        bookingService.cancelBooking(canceled.getId(), user.getId());
+
+        PromoCodeUsageResponse usage = usage();
+        assertThat(usage.getRedemptions()).isEqualTo(1);
+        assertThat(usage.getGrossRevenue()).isEqualByComparingTo("200.00");
+        assertThat(usage.getTotalDiscount()).isEqualByComparingTo("20.00");
+        assertThat(roomUsage(usage, room).getRedemptions()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildMatchesIncrementalRollups() {
+        book(room, 10, 12);
+        book(otherRoom, 10, 11);
+        PromoCodeUsageResponse incremental = usage();
+
+        promoCodeUsageService.rebuildUsage(promoCode);
+
+        PromoCodeUsageResponse rebuilt = usage();
+        assertThat(rebuilt.getRedemptions()).isEqualTo(incremental.getRedemptions());
+        assertThat(rebuilt.getGrossRevenue()).isEqualByComparingTo(incremental.getGrossRevenue());
+        assertThat(rebuilt.getTotalDiscount()).isEqualByComparingTo(incremental.getTotalDiscount());
+        assertThat(rebuilt.getRooms()).hasSize(2);
+    }
+
+    private Room saveRoom(BigDecimal price) {
+        return roomRepository.save(TestFixtures.room("Promo").basePricePerHour(price).build());
+    }
+
+    private Booking book(Room target, int fromHour, int toHour) {
+        return bookingService.createBooking(user.getId(),
+                new BookingCreateRequest(target.getId(), DAY.withHour(fromHour), DAY.withHour(toHour), promoCode.getCode()));
+    }
+
+    private PromoCodeUsageResponse usage() {
+        entityManager.flush();
+        entityManager.clear();
+        return promoCodeUsageService.getUsage(promoCode.getId());
+    }
+
+    private static PromoCodeRoomUsageResponse roomUsage(PromoCodeUsageResponse usage, Room target) {
+        return usage.getRooms().stream()
+                .filter(roomUsage -> roomUsage.getRoomId().equals(target.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
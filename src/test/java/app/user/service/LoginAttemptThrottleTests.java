@@ -0,0 +1,58 @@
+package app.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptThrottleTests {
+
+    private final LoginAttemptThrottle throttle = new LoginAttemptThrottle(Duration.ofMinutes(15), 3, 5, 1024);
+
+    @Test
+    void blocksUsernameAfterTooManyFailuresFromAnyAddress() {
+        throttle.recordFailure("alice", "10.0.0.1");
+        throttle.recordFailure("Alice ", "10.0.0.2");
+        assertThat(throttle.isBlocked("alice", "10.0.0.3")).isFalse();
+
+        throttle.recordFailure("ALICE", "10.0.0.3");
+
+        assertThat(throttle.isBlocked("alice", "10.0.0.4")).isTrue();
+        assertThat(throttle.isBlocked("bob", "10.0.0.4")).isFalse();
+    }
+
+    @Test
+    void blocksAddressAfterTooManyFailuresForAnyUsername() {
+        IntStream.range(0, 4).forEach(i -> throttle.recordFailure("user" + i, "10.0.0.1"));
+        assertThat(throttle.isBlocked("someone", "10.0.0.1")).isFalse();
+
+        throttle.recordFailure("user4", "10.0.0.1");
+
+        assertThat(throttle.isBlocked("someone", "10.0.0.1")).isTrue();
+        assertThat(throttle.isBlocked("someone", "10.0.0.2")).isFalse();
+    }
+
+    @Test
+    void keepsDistinctKeysApartInASmallCounter() {
+        IntStream.range(0, 500).forEach(i -> throttle.recordFailure("user" + i, "10.0." + (i / 250) + "." + i % 250));
+
+        long blocked = IntStream.range(0, 500)
+                .filter(i -> throttle.isBlocked("user" + i, "192.168.0.1"))
+                .count();
+
+        assertThat(blocked).isZero();
+    }
+
+    @Test
+    void forgetsFailuresOnceTheWindowHasPassed() throws InterruptedException {
+        LoginAttemptThrottle shortWindow = new LoginAttemptThrottle(Duration.ofMillis(300), 2, 10, 1024);
+        shortWindow.recordFailure("alice", "10.0.0.1");
+        shortWindow.recordFailure("alice", "10.0.0.1");
+        assertThat(shortWindow.isBlocked("alice", "10.0.0.1")).isTrue();
+
+        Thread.sleep(400);
+
+        assertThat(shortWindow.isBlocked("alice", "10.0.0.1")).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package app.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import app.TestFixtures;
+import app.user.model.AuthenticatedUser;
+import app.user.model.User;
+import app.user.repository.UserRepository;
+import app.web.dto.UserUpdateRequest;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrincipalRefreshRegistryTests {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private FindByIndexNameSessionRepository<? extends Session> sessionRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.user("refresh")
+                .password(passwordEncoder.encode(PASSWORD))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.findByPrincipalName(user.getId().toString()).keySet().forEach(sessionRepository::deleteById);
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void renamedUserKeepsSessionAndGetsRefreshedPrincipal() throws Exception {
+        Cookie session = login();
+        String newUsername = "renamed-" + UUID.randomUUID().toString().substring(0, 8);
+
+        userService.updateProfile(user.getId(), new UserUpdateRequest(newUsername, user.getEmail()));
+        mockMvc.perform(get("/bookings").cookie(session))
+                .andExpect(status().isOk());
+
+        assertThat(storedPrincipals()).singleElement()
+                .satisfies(principal -> assertThat(principal.getUsername()).isEqualTo(newUsername));
+    }
+
+    @Test
+    void blockedUserIsSignedOutOfEverySession() throws Exception {
+        Cookie first = login();
+        Cookie second = login();
+        assertThat(storedPrincipals()).hasSize(2);
+
+        userService.blockUser(user.getId());
+
+        assertThat(storedPrincipals()).isEmpty();
+        mockMvc.perform(get("/bookings").cookie(first))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/bookings").cookie(second))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private Cookie login() throws Exception {
+        Cookie session = mockMvc.perform(post("/login")
+                        .param("username", user.getUsername())
+                        .param("password", PASSWORD)
+                        .with(csrf()))
+                .andExpect(redirectedUrl("/"))
+                .andReturn()
+                .getResponse()
+                .getCookie("SESSION");
+        assertThat(session).isNotNull();
+        return session;
+    }
+
+    private List<AuthenticatedUser> storedPrincipals() {
+        Map<String, ? extends Session> sessions = sessionRepository.findByPrincipalName(user.getId().toString());
+        return sessions.values().stream()
+                .map(stored -> (SecurityContext) stored.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY))
+                .map(context -> (AuthenticatedUser) context.getAuthentication().getPrincipal())
+                .toList();
+    }
+}
@@ -0,0 +1,134 @@
+package app.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.TestFixtures;
+import app.user.model.User;
+import app.user.model.UserSummary;
+import app.user.repository.UserRepository;
+import app.web.dto.UserSearchResponse;
+import app.web.dto.UserUpdateRequest;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServiceTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "ks" + UUID.randomUUID().toString().substring(0, 6);
+        saveUser("a", CREATED_AT);
+        saveUser("b", CREATED_AT.plusMinutes(1));
+        saveUser("c", CREATED_AT.plusMinutes(1));
+        saveUser("d", CREATED_AT.plusMinutes(1));
+        saveUser("e", CREATED_AT.plusMinutes(2));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchPagesForwardAndBackByUsername() {
+        UserSearchResponse first = userService.searchUsers(prefix, null, null, 2, "username", "asc");
+        assertThat(usernames(first)).containsExactly("a", "b");
+        assertThat(first.getPreviousCursor()).isNull();
+
+        UserSearchResponse second = userService.searchUsers(prefix, first.getNextCursor(), null, 2, "username", "asc");
+        assertThat(usernames(second)).containsExactly("c", "d");
+
+        UserSearchResponse last = userService.searchUsers(prefix, second.getNextCursor(), null, 2, "username", "asc");
+        assertThat(usernames(last)).containsExactly("e");
+        assertThat(last.getNextCursor()).isNull();
+
+        UserSearchResponse back = userService.searchUsers(prefix, null, last.getPreviousCursor(), 2, "username", "asc");
+        assertThat(usernames(back)).containsExactly("c", "d");
+        assertThat(back.getNextCursor()).isNotNull();
+
+        UserSearchResponse start = userService.searchUsers(prefix, null, back.getPreviousCursor(), 2, "username", "asc");
+        assertThat(usernames(start)).containsExactly("a", "b");
+        assertThat(start.getPreviousCursor()).isNull();
+    }
+
+    @Test
+    void searchPagesThroughEqualSortValuesWithoutSkippingOrRepeating() {
+        UserSearchResponse first = userService.searchUsers(prefix, null, null, 2, "createdAt", "desc");
+        UserSearchResponse second = userService.searchUsers(prefix, first.getNextCursor(), null, 2, "createdAt", "desc");
+        UserSearchResponse third = userService.searchUsers(prefix, second.getNextCursor(), null, 2, "createdAt", "desc");
+
+        assertThat(usernames(first)).startsWith("e").hasSize(2);
+        assertThat(usernames(third)).containsExactly("a");
+        assertThat(third.getNextCursor()).isNull();
+        assertThat(usernames(first)).doesNotContainAnyElementsOf(usernames(second));
+        assertThat(concat(first, second, third)).containsExactlyInAnyOrder("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void malformedCursorStartsFromTheFirstPage() {
+        UserSearchResponse page = userService.searchUsers(prefix, "not-a-cursor", null, 2, "createdAt", "desc");
+
+        assertThat(page.getUsers()).hasSize(2);
+        assertThat(page.getPreviousCursor()).isNull();
+    }
+
+    @Test
+    void updateProfileToATakenUsernameFailsOnTheUsernameField() {
+        User user = userRepository.findByUsername(prefix + "-a").orElseThrow();
+
+        assertThatThrownBy(() -> userService.updateProfile(user.getId(),
+                new UserUpdateRequest(prefix + "-b", user.getEmail())))
+                .isInstanceOfSatisfying(DuplicateUserException.class,
+                        e -> assertThat(e.getField()).isEqualTo("username"));
+    }
+
+    @Test
+    void updateProfileToATakenEmailFailsOnTheEmailField() {
+        User user = userRepository.findByUsername(prefix + "-a").orElseThrow();
+
+        assertThatThrownBy(() -> userService.updateProfile(user.getId(),
+                new UserUpdateRequest(user.getUsername(), prefix + "-b@example.com")))
+                .isInstanceOfSatisfying(DuplicateUserException.class,
+                        e -> assertThat(e.getField()).isEqualTo("email"));
+    }
+
+    private List<String> usernames(UserSearchResponse page) {
+        return page.getUsers().stream()
+                .map(UserSummary::getUsername)
+                .map(username -> username.substring(prefix.length() + 1))
+                .toList();
+    }
+
+    private List<String> concat(UserSearchResponse... pages) {
+        return Arrays.stream(pages).flatMap(page -> usernames(page).stream()).toList();
+    }
+
+    private void saveUser(String suffix, LocalDateTime createdAt) {
+        userRepository.save(TestFixtures.user(prefix)
+                .username(prefix + "-" + suffix)
+                .email(prefix + "-" + suffix + "@example.com")
+                .createdAt(createdAt)
+                .build());
+    }
+}
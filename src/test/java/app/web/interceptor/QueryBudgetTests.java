@@ -0,0 +1,134 @@
+package app.web.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import app.TestFixtures;
+import app.booking.service.BookingService;
+import app.promocode.model.PromoCode;
+import app.promocode.repository.PromoCodeRepository;
+import app.room.model.Room;
+import app.room.repository.RoomRepository;
+import app.user.model.AuthenticatedUser;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.web.dto.BookingCreateRequest;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Import(QueryBudgetTests.OverBudgetController.class)
+class QueryBudgetTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private PromoCodeRepository promoCodeRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(UserRole.USER);
+        admin = saveUser(UserRole.ADMIN);
+        saveUser(UserRole.USER);
+        Room room = saveRoom();
+        Room otherRoom = saveRoom();
+        PromoCode promoCode = promoCodeRepository.save(TestFixtures.promoCode("BUDGET").build());
+        book(room, 9, promoCode.getCode());
+        book(otherRoom, 11, promoCode.getCode());
+        book(room, 14, null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void roomCatalogStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/rooms"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bookingListStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/bookings").with(user(new AuthenticatedUser(user))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void profileStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/users/profile").with(user(new AuthenticatedUser(user))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminUserListStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/admin/users").with(user(new AuthenticatedUser(admin))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void handlerOverItsBudgetFails() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/test/query-budget").with(user(new AuthenticatedUser(user)))))
+                .hasRootCauseInstanceOf(QueryBudgetExceededException.class)
+                .rootCause()
+                .hasMessageContaining("budget is 1");
+    }
+
+    private void book(Room room, int hour, String promoCode) {
+        bookingService.createBooking(user.getId(),
+                new BookingCreateRequest(room.getId(), DAY.plusHours(hour), DAY.plusHours(hour + 1), promoCode));
+    }
+
+    private User saveUser(UserRole role) {
+        return userRepository.save(TestFixtures.user("budget").role(role).build());
+    }
+
+    private Room saveRoom() {
+        return roomRepository.save(TestFixtures.room("Budget").build());
+    }
+
+    @RestController
+    static class OverBudgetController {
+
+        private final RoomRepository roomRepository;
+
+        OverBudgetController(RoomRepository roomRepository) {
+            this.roomRepository = roomRepository;
+        }
+
+        @QueryBudget(1)
+        @GetMapping("/test/query-budget")
+        public long countRoomsTwice() {
+            return roomRepository.count() + roomRepository.count();
+        }
+    }
+}